@@ -1,9 +1,11 @@
 package com.example.matchescrud.Mapper;
 
 import com.example.matchescrud.dto.TeamReferenceDTO;
+import com.example.matchescrud.dto.response.MatchPageDTO;
 import com.example.matchescrud.dto.response.MatchResponseDTO;
 import com.example.matchescrud.model.entity.Match;
 import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.util.MatchCursor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -89,4 +91,15 @@ public class MatchResponseDTOMapper {
                 .map(this::matchToMatchResponseDTO)
                 .collect(Collectors.toList());
     }
+
+    // Builds a keyset page from a query that fetched one row more than the page size
+    public MatchPageDTO matchResponseListToMatchPageDTO(List<MatchResponseDTO> matchList, int pageSize) {
+        String nextCursor = null;
+        if (matchList.size() > pageSize) {
+            matchList = matchList.subList(0, pageSize);
+            MatchResponseDTO last = matchList.get(pageSize - 1);
+            nextCursor = new MatchCursor(last.getDate(), last.getTime(), last.getUuid()).encode();
+        }
+        return new MatchPageDTO(matchList, nextCursor);
+    }
 }
@@ -0,0 +1,78 @@
+package com.example.matchescrud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+// Connection pools of the primary (spring.datasource) and, when replica.datasource.url is set, of a
+// read replica that read-only transactions are routed to. The application uses the lazy proxy in
+// front of them, which also means a transaction that never reaches the database takes no connection.
+// With jdbc.concurrency-limiter.enabled each pool is behind a JdbcConcurrencyLimiter
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty("replica.datasource.url")
+    @ConfigurationProperties("replica.datasource")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty("replica.datasource.url")
+    @ConfigurationProperties("replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+                                 @Value("${replica.retry-after-seconds:30}") long retryAfterSeconds,
+                                 @Value("${jdbc.concurrency-limiter.enabled:false}") boolean limitConcurrency,
+                                 @Value("${jdbc.concurrency-limiter.acquire-timeout-millis:30000}") long acquireTimeoutMillis) {
+        DataSource primary = limitConcurrency ? limit(primaryDataSource, acquireTimeoutMillis) : primaryDataSource;
+        HikariDataSource replicaPool = replicaDataSource.getIfAvailable();
+        if (replicaPool == null) {
+            return new LazyConnectionDataSourceProxy(primary);
+        }
+        DataSource replica = limitConcurrency ? limit(replicaPool, acquireTimeoutMillis) : replicaPool;
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica,
+                TimeUnit.SECONDS.toMillis(retryAfterSeconds)));
+    }
+
+    // One permit per pooled connection, so requests wait in front of the pool rather than inside it
+    private static DataSource limit(HikariDataSource pool, long acquireTimeoutMillis) {
+        return new JdbcConcurrencyLimiter(pool, pool.getMaximumPoolSize(), acquireTimeoutMillis);
+    }
+}
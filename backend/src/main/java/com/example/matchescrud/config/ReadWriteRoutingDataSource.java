@@ -0,0 +1,77 @@
+package com.example.matchescrud.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. The route is
+ * picked when the connection is opened, so this has to sit behind a LazyConnectionDataSourceProxy:
+ * the transaction manager asks for a connection before the transaction is marked read-only, the
+ * proxy only opens it at the first statement. When the replica cannot hand out a connection the
+ * read falls back to the primary, and reads stay there for the back-off period instead of waiting
+ * on the replica's connection timeout every time.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public enum Route {PRIMARY, REPLICA}
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long backOffMillis;
+    private volatile long replicaDownUntil;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, long backOffMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.backOffMillis = backOffMillis;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && System.currentTimeMillis() >= replicaDownUntil) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        if (determineCurrentLookupKey() == Route.PRIMARY) {
+            return connector.connect(primary);
+        }
+        try {
+            return connector.connect(replica);
+        } catch (SQLException e) {
+            replicaDownUntil = System.currentTimeMillis() + backOffMillis;
+            logger.warn("Replica unavailable, reading from the primary for the next {} ms: {}", backOffMillis,
+                    e.getMessage());
+            return connector.connect(primary);
+        }
+    }
+
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.matchescrud.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+// Regions of the Hibernate second-level cache, held in process by Caffeine through JCache.
+// Cities, divisions and stadiums are a few dozen rows read by nearly every team and match
+// query and seldom written, writes through Hibernate update the cached entries and invalidate
+// the cached findByName results. The TTL only covers changes made outside the application.
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    public static final String CITY_REGION = "city";
+    public static final String DIVISION_REGION = "division";
+    public static final String STADIUM_REGION = "stadium";
+    // Ids returned by the findByName lookups, the entities themselves come from the regions above
+    public static final String QUERY_REGION = "reference-queries";
+    // Always created by Hibernate, used by cacheable queries naming no region
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    // Last write per table, checked to drop query results older than it. Never evicted,
+    // it holds one entry per table
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${reference.cache.max-entries:1000}") long maxEntries,
+                                              @Value("${reference.cache.ttl-seconds:3600}") long ttlSeconds) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        CaffeineConfiguration<Object, Object> bounded = new CaffeineConfiguration<>();
+        bounded.setMaximumSize(OptionalLong.of(maxEntries));
+        bounded.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        for (String region : new String[]{CITY_REGION, DIVISION_REGION, STADIUM_REGION, QUERY_REGION, DEFAULT_QUERY_REGION}) {
+            createIfAbsent(cacheManager, region, bounded);
+        }
+        createIfAbsent(cacheManager, TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // The provider's default manager outlives a context, as in tests restarting the application
+    private static void createIfAbsent(CacheManager cacheManager, String region,
+                                       CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
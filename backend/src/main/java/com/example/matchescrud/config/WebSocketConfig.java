@@ -0,0 +1,25 @@
+package com.example.matchescrud.config;
+
+import com.example.matchescrud.controller.StandingsWebSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+// Raw WebSocket endpoints, one channel per division for the live standings
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final StandingsWebSocketHandler standingsWebSocketHandler;
+
+    public WebSocketConfig(StandingsWebSocketHandler standingsWebSocketHandler) {
+        this.standingsWebSocketHandler = standingsWebSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(standingsWebSocketHandler, "/api/v1/ws/standings/division/*")
+                .setAllowedOrigins("http://localhost:4200");
+    }
+}
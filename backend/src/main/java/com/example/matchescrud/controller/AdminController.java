@@ -3,12 +3,15 @@ package com.example.matchescrud.controller;
 import com.example.matchescrud.dto.TeamDTO;
 import com.example.matchescrud.dto.UserDTO;
 import com.example.matchescrud.exceptions.ApiException;
+import com.example.matchescrud.service.AuthorizationService;
 import com.example.matchescrud.service.interfaces.IAdminService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -16,9 +19,11 @@ import java.util.List;
 public class AdminController {
 
     private final IAdminService adminService;
+    private final AuthorizationService authorizationService;
 
-    public AdminController(IAdminService adminService) {
+    public AdminController(IAdminService adminService, AuthorizationService authorizationService) {
         this.adminService = adminService;
+        this.authorizationService = authorizationService;
     }
 
     // Register new administrator
@@ -33,6 +38,14 @@ public class AdminController {
         return new ResponseEntity<>(adminService.login(userDTO), HttpStatus.OK);
     }
 
+    // Logout, revokes the admin token before it expires
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.revoke(authorization);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     // Get all administrators
     @GetMapping("/admins")
     public ResponseEntity<List<UserDTO>> getAllAdmins() {
@@ -41,8 +54,26 @@ public class AdminController {
 
     // Protected endpoint - only admins can delete teams
     @DeleteMapping("/team/{id}")
-    public ResponseEntity<?> deleteTeamAsAdmin(@PathVariable Long id) throws ApiException {
+    public ResponseEntity<?> deleteTeamAsAdmin(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(adminService.deleteTeam(id), HttpStatus.OK);
     }
-}
 
+    // Rebuild league standings from the matches table - Admin only
+    @PostMapping("/standings/rebuild")
+    public ResponseEntity<?> rebuildStandings(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
+        return new ResponseEntity<>(Map.of("teams", adminService.rebuildStandings()), HttpStatus.OK);
+    }
+
+    // Hit rate, size and eviction counters of the statistics cache - Admin only
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<?> getStatisticsCacheStats(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
+        return new ResponseEntity<>(adminService.getStatisticsCacheStats(), HttpStatus.OK);
+    }
+}
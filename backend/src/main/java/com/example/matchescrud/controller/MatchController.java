@@ -2,19 +2,27 @@ package com.example.matchescrud.controller;
 
 
 import com.example.matchescrud.dto.request.MatchRequestDTO;
+import com.example.matchescrud.dto.response.MatchImportResultDTO;
+import com.example.matchescrud.dto.response.MatchPageDTO;
 import com.example.matchescrud.dto.response.MatchResponseDTO;
 import com.example.matchescrud.exceptions.ApiException;
-import com.example.matchescrud.exceptions.UnauthorizedException;
-import com.example.matchescrud.model.entity.User;
-import com.example.matchescrud.repository.UserRepository;
+import com.example.matchescrud.service.AuthorizationService;
+import com.example.matchescrud.service.MatchEventBroadcaster;
+import com.example.matchescrud.service.MatchImportServiceImp;
 import com.example.matchescrud.service.MatchServiceImp;
+import com.example.matchescrud.service.interfaces.IMatchImportService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -24,25 +32,16 @@ public class MatchController {
 
     //Dependency injection
     MatchServiceImp matchServiceImp;
-    UserRepository userRepository;
+    MatchImportServiceImp matchImportServiceImp;
+    AuthorizationService authorizationService;
+    MatchEventBroadcaster matchEventBroadcaster;
     
-    public MatchController(MatchServiceImp matchServiceImp, UserRepository userRepository){
+    public MatchController(MatchServiceImp matchServiceImp, MatchImportServiceImp matchImportServiceImp, AuthorizationService authorizationService,
+                           MatchEventBroadcaster matchEventBroadcaster){
         this.matchServiceImp = matchServiceImp;
-        this.userRepository = userRepository;
-    }
-    
-    /**
-     * Check if username is an admin
-     */
-    private void requireAdmin(String username) throws UnauthorizedException {
-        if (username == null || username.trim().isEmpty()) {
-            throw new UnauthorizedException("Admin username is required");
-        }
-        
-        Optional<User> userOpt = userRepository.findByUsername(username.trim());
-        if (userOpt.isEmpty() || userOpt.get().getRole() != User.Role.ADMIN) {
-            throw new UnauthorizedException("Access denied. Administrator privileges required.");
-        }
+        this.matchImportServiceImp = matchImportServiceImp;
+        this.authorizationService = authorizationService;
+        this.matchEventBroadcaster = matchEventBroadcaster;
     }
 
     //Get all matches
@@ -51,6 +50,30 @@ public class MatchController {
         return new ResponseEntity<>(matchServiceImp.getAllMatches(), HttpStatus.OK);
     }
 
+    //Get matches one keyset page at a time, pass back nextCursor to continue
+    @GetMapping("/match/page")
+    public ResponseEntity<MatchPageDTO> getMatchPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) throws ApiException {
+        return new ResponseEntity<>(matchServiceImp.getMatchPage(cursor, size), HttpStatus.OK);
+    }
+
+    //Stream all matches as newline-delimited JSON
+    @GetMapping(value = "/match/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllMatches() {
+        StreamingResponseBody body = outputStream -> matchServiceImp.streamAllMatches(outputStream);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
+    //Live score changes as Server-Sent Events, optionally only for a team, a division or a match
+    @GetMapping(value = "/match/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamScoreEvents(
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) Long divisionId,
+            @RequestParam(required = false) UUID matchUuid) throws ApiException {
+        return new ResponseEntity<>(matchEventBroadcaster.subscribe(teamId, divisionId, matchUuid), HttpStatus.OK);
+    }
+
     //Get match by UUID
     @GetMapping("/match/{uuid}")
     public ResponseEntity<MatchResponseDTO> getMatchByUUID(@PathVariable UUID uuid) throws ApiException {
@@ -62,8 +85,8 @@ public class MatchController {
     @DeleteMapping("/match/{uuid}")
     public ResponseEntity<?> deleteMatch(
             @PathVariable UUID uuid,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(matchServiceImp.deleteMatch(uuid), HttpStatus.OK);
     }
 
@@ -71,18 +94,31 @@ public class MatchController {
     @PostMapping("/match")
     public ResponseEntity<?> createMatch(
             @Valid @RequestBody MatchRequestDTO matchRequestDTO,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(matchServiceImp.createMatch(matchRequestDTO), HttpStatus.CREATED);
     }
 
+    //Bulk import matches from a CSV file (header line first) or NDJSON, one match per line - Admin only
+    //Columns/fields: date, time, homeTeamId or homeTeam (name), awayTeamId or awayTeam, homeGoals, awayGoals, spectators, ticketPrice
+    @PostMapping(value = "/match/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<MatchImportResultDTO> importMatches(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException, IOException {
+        authorizationService.requireAdmin(authorization);
+        IMatchImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? IMatchImportService.Format.CSV : IMatchImportService.Format.NDJSON;
+        return new ResponseEntity<>(matchImportServiceImp.importMatches(body, format), HttpStatus.OK);
+    }
+
     //Update match - Admin only
     @PutMapping("/match/{uuid}")
     public ResponseEntity<?> updateMatch(
             @PathVariable UUID uuid,
             @Valid @RequestBody MatchRequestDTO matchRequestDTO,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(matchServiceImp.updateMatch(uuid, matchRequestDTO), HttpStatus.OK);
     }
 }
@@ -1,9 +1,11 @@
 package com.example.matchescrud.controller;
 
 import com.example.matchescrud.dto.MatchPlayerStatsDTO;
+import com.example.matchescrud.dto.request.PlayerStatsLineDTO;
 import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.service.AuthorizationService;
 import com.example.matchescrud.service.MatchPlayerStatsServiceImp;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,8 +30,8 @@ public class MatchPlayerStatsController {
             @PathVariable UUID matchUuid,
             @PathVariable Long playerId,
             @RequestBody MatchPlayerStatsDTO statsDTO,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        authorizationService.requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(
             matchPlayerStatsService.addPlayerStats(matchUuid, playerId, statsDTO),
             HttpStatus.CREATED
@@ -41,14 +43,27 @@ public class MatchPlayerStatsController {
             @PathVariable UUID matchUuid,
             @PathVariable Long playerId,
             @RequestBody MatchPlayerStatsDTO statsDTO,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        authorizationService.requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(
             matchPlayerStatsService.updatePlayerStats(matchUuid, playerId, statsDTO),
             HttpStatus.OK
         );
     }
 
+    // Whole lineup in one request, inserting or overwriting each player's line
+    @PutMapping("/{matchUuid}/stats")
+    public ResponseEntity<List<MatchPlayerStatsDTO>> saveLineupStats(
+            @PathVariable UUID matchUuid,
+            @RequestBody List<PlayerStatsLineDTO> lines,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
+        return new ResponseEntity<>(
+            matchPlayerStatsService.saveLineupStats(matchUuid, lines),
+            HttpStatus.OK
+        );
+    }
+
     @GetMapping("/{matchUuid}/stats")
     public ResponseEntity<List<MatchPlayerStatsDTO>> getMatchStats(@PathVariable UUID matchUuid) throws ApiException {
         return new ResponseEntity<>(
@@ -71,8 +86,8 @@ public class MatchPlayerStatsController {
     public ResponseEntity<?> deletePlayerStats(
             @PathVariable UUID matchUuid,
             @PathVariable Long playerId,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        authorizationService.requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         matchPlayerStatsService.deletePlayerStats(matchUuid, playerId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
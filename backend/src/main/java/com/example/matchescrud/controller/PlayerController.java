@@ -6,6 +6,7 @@ import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.exceptions.UnauthorizedException;
 import com.example.matchescrud.service.AuthorizationService;
 import com.example.matchescrud.service.PlayerServiceImp;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,8 +45,8 @@ public class PlayerController {
     @PostMapping("/player")
     public ResponseEntity<PlayerDTO> createPlayer(
             @Valid @RequestBody PlayerDTO playerDTO,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        authorizationService.requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(playerServiceImp.createPlayer(playerDTO), HttpStatus.CREATED);
     }
     
@@ -53,16 +54,16 @@ public class PlayerController {
     public ResponseEntity<PlayerDTO> updatePlayer(
             @Valid @PathVariable Long id,
             @RequestBody PlayerDTO playerDTO,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        authorizationService.requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(playerServiceImp.updatePlayer(id, playerDTO), HttpStatus.OK);
     }
     
     @DeleteMapping("/player/{id}")
     public ResponseEntity<?> deletePlayer(
             @PathVariable Long id,
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        authorizationService.requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         playerServiceImp.deletePlayer(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
@@ -1,8 +1,11 @@
 package com.example.matchescrud.controller;
 
 import com.example.matchescrud.dto.PlayerDTO;
+import com.example.matchescrud.dto.SuggestionDTO;
 import com.example.matchescrud.dto.TeamDTO;
-import com.example.matchescrud.dto.response.MatchResponseDTO;
+import com.example.matchescrud.dto.response.GlobalSearchDTO;
+import com.example.matchescrud.dto.response.MatchPageDTO;
+import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.service.SearchServiceImp;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -23,16 +26,33 @@ public class SearchController {
         this.searchService = searchService;
     }
 
+    @GetMapping
+    public ResponseEntity<GlobalSearchDTO> search(@RequestParam(required = false) String q,
+                                                  @RequestParam(defaultValue = "5") int limit) {
+        return new ResponseEntity<>(searchService.search(q, limit), HttpStatus.OK);
+    }
+
     @GetMapping("/teams")
     public ResponseEntity<List<TeamDTO>> searchTeams(@RequestParam(required = false) String q) {
         return new ResponseEntity<>(searchService.searchTeams(q), HttpStatus.OK);
     }
 
     @GetMapping("/players")
-    public ResponseEntity<List<PlayerDTO>> searchPlayers(@RequestParam(required = false) String q) {
+    public ResponseEntity<List<PlayerDTO>> searchPlayers(@RequestParam(required = false) String q,
+                                                         @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                         @RequestParam(required = false) Integer maxDistance) {
+        if (fuzzy) {
+            return new ResponseEntity<>(searchService.fuzzySearchPlayers(q, maxDistance), HttpStatus.OK);
+        }
         return new ResponseEntity<>(searchService.searchPlayers(q), HttpStatus.OK);
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(@RequestParam(required = false) String q,
+                                                       @RequestParam(defaultValue = "10") int limit) {
+        return new ResponseEntity<>(searchService.suggest(q, limit), HttpStatus.OK);
+    }
+
     @GetMapping("/players/filter")
     public ResponseEntity<List<PlayerDTO>> filterPlayers(
             @RequestParam(required = false) Long teamId,
@@ -43,13 +63,15 @@ public class SearchController {
     }
 
     @GetMapping("/matches/filter")
-    public ResponseEntity<List<MatchResponseDTO>> filterMatches(
+    public ResponseEntity<MatchPageDTO> filterMatches(
             @RequestParam(required = false) Long divisionId,
             @RequestParam(required = false) Long stadiumId,
             @RequestParam(required = false) Long teamId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return new ResponseEntity<>(searchService.filterMatches(divisionId, stadiumId, teamId, startDate, endDate), HttpStatus.OK);
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) throws ApiException {
+        return new ResponseEntity<>(searchService.filterMatches(divisionId, stadiumId, teamId, startDate, endDate, cursor, size), HttpStatus.OK);
     }
 }
 
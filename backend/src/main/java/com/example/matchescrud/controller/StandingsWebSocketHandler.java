@@ -0,0 +1,53 @@
+package com.example.matchescrud.controller;
+
+import com.example.matchescrud.service.StandingsFeed;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+// Live standings of one division: ws://.../api/v1/ws/standings/division/{divisionId}
+// Reconnect with ?epoch=...&version=... of the last message applied to get only what was missed
+@Component
+public class StandingsWebSocketHandler extends TextWebSocketHandler {
+
+    //Dependency injection
+    StandingsFeed standingsFeed;
+
+    public StandingsWebSocketHandler(StandingsFeed standingsFeed) {
+        this.standingsFeed = standingsFeed;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        UriComponents uri = UriComponentsBuilder.fromUri(session.getUri()).build();
+        List<String> segments = uri.getPathSegments();
+        MultiValueMap<String, String> params = uri.getQueryParams();
+        Long divisionId;
+        Long version;
+        try {
+            divisionId = Long.valueOf(segments.get(segments.size() - 1));
+            version = params.getFirst("version") != null ? Long.valueOf(params.getFirst("version")) : null;
+        } catch (NumberFormatException e) {
+            session.close(CloseStatus.BAD_DATA.withReason("Division id and version must be numbers"));
+            return;
+        }
+        standingsFeed.subscribe(session, divisionId, params.getFirst("epoch"), version);
+    }
+
+    // The channel only pushes, anything a client sends is ignored
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        standingsFeed.unsubscribe(session);
+    }
+}
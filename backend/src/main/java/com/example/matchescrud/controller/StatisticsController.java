@@ -3,10 +3,12 @@ package com.example.matchescrud.controller;
 import com.example.matchescrud.dto.*;
 import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.service.StatisticsServiceImp;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -46,8 +48,11 @@ public class StatisticsController {
     }
 
     @GetMapping("/stadiums")
-    public ResponseEntity<List<StadiumStatsDTO>> getStadiumStatistics() {
-        return new ResponseEntity<>(statisticsService.getStadiumStatistics(), HttpStatus.OK);
+    public ResponseEntity<List<StadiumStatsDTO>> getStadiumStatistics(
+            @RequestParam(required = false) Long divisionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return new ResponseEntity<>(statisticsService.getStadiumStatistics(divisionId, startDate, endDate), HttpStatus.OK);
     }
 }
 
@@ -8,6 +8,7 @@ import com.example.matchescrud.dto.TeamRegisterDTO;
 import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.service.AuthorizationService;
 import com.example.matchescrud.service.TeamServiceImp;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -33,8 +34,8 @@ public class TeamController {
     //Get all teams from DB - Admin only
     @GetMapping("/team")
     public ResponseEntity<List<TeamDTO>> getAll(
-            @RequestHeader(value = "X-Admin-Username", required = false) String adminUsername) throws ApiException {
-        authorizationService.requireAdmin(adminUsername);
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ApiException {
+        authorizationService.requireAdmin(authorization);
         return new ResponseEntity<>(teamServiceImp.getAllTeams(), HttpStatus.OK);
     }
 
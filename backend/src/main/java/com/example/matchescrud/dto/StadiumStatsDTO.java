@@ -1,11 +1,14 @@
 package com.example.matchescrud.dto;
 
+import java.math.BigDecimal;
+
 public class StadiumStatsDTO {
     private Long stadiumId;
     private String stadiumName;
     private int capacity;
     private int totalMatches;
     private long totalSpectators;
+    private BigDecimal totalRevenue;
     private double averageAttendance;
     private double occupancyRate;
 
@@ -23,6 +26,17 @@ public class StadiumStatsDTO {
         this.occupancyRate = occupancyRate;
     }
 
+    // Used by the aggregate query, averages are filled in afterwards
+    public StadiumStatsDTO(Long stadiumId, String stadiumName, int capacity, Long totalMatches,
+                          Long totalSpectators, BigDecimal totalRevenue) {
+        this.stadiumId = stadiumId;
+        this.stadiumName = stadiumName;
+        this.capacity = capacity;
+        this.totalMatches = totalMatches.intValue();
+        this.totalSpectators = totalSpectators;
+        this.totalRevenue = totalRevenue;
+    }
+
     // Getters and Setters
     public Long getStadiumId() {
         return stadiumId;
@@ -64,6 +78,14 @@ public class StadiumStatsDTO {
         this.totalSpectators = totalSpectators;
     }
 
+    public BigDecimal getTotalRevenue() {
+        return totalRevenue;
+    }
+
+    public void setTotalRevenue(BigDecimal totalRevenue) {
+        this.totalRevenue = totalRevenue;
+    }
+
     public double getAverageAttendance() {
         return averageAttendance;
     }
@@ -0,0 +1,45 @@
+package com.example.matchescrud.dto;
+
+public class SuggestionDTO {
+    public static final String TEAM = "team";
+    public static final String PLAYER = "player";
+    public static final String STADIUM = "stadium";
+    public static final String CITY = "city";
+
+    private String type;
+    private Long id;
+    private String name;
+
+    public SuggestionDTO() {
+    }
+
+    public SuggestionDTO(String type, Long id, String name) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
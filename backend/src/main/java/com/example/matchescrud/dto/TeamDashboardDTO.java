@@ -34,6 +34,9 @@ public class TeamDashboardDTO {
     // Recent news/announcements (for future use)
     private List<String> announcements;
 
+    // Parts that could not be read in time (homeMatches, awayMatches, totalPlayers), the rest is shown without them
+    private List<String> unavailableParts;
+
     public TeamDashboardDTO() {
     }
 
@@ -111,5 +114,7 @@ public class TeamDashboardDTO {
     
     public List<String> getAnnouncements() { return announcements; }
     public void setAnnouncements(List<String> announcements) { this.announcements = announcements; }
+    
+    public List<String> getUnavailableParts() { return unavailableParts; }
+    public void setUnavailableParts(List<String> unavailableParts) { this.unavailableParts = unavailableParts; }
 }
-
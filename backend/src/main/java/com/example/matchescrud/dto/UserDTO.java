@@ -2,12 +2,17 @@ package com.example.matchescrud.dto;
 
 import com.example.matchescrud.model.entity.User;
 
+import java.time.Instant;
+
 public class UserDTO {
     private Long id;
     private String username;
     private String password;
     private String email;
     private User.Role role;
+    // Set on login only, sent back as "Authorization: Bearer <token>" on admin requests
+    private String token;
+    private Instant tokenExpiresAt;
 
     public UserDTO() {
     }
@@ -59,5 +64,20 @@ public class UserDTO {
     public void setRole(User.Role role) {
         this.role = role;
     }
-}
 
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public Instant getTokenExpiresAt() {
+        return tokenExpiresAt;
+    }
+
+    public void setTokenExpiresAt(Instant tokenExpiresAt) {
+        this.tokenExpiresAt = tokenExpiresAt;
+    }
+}
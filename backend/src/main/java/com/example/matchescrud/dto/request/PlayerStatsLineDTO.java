@@ -0,0 +1,61 @@
+package com.example.matchescrud.dto.request;
+
+// One player's line in a whole-lineup stats submission
+public class PlayerStatsLineDTO {
+    private Long playerId;
+    private int goals;
+    private int assists;
+    private int passes;
+    private int saves;
+
+    public PlayerStatsLineDTO() {
+    }
+
+    public PlayerStatsLineDTO(Long playerId, int goals, int assists, int passes, int saves) {
+        this.playerId = playerId;
+        this.goals = goals;
+        this.assists = assists;
+        this.passes = passes;
+        this.saves = saves;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public int getGoals() {
+        return goals;
+    }
+
+    public void setGoals(int goals) {
+        this.goals = goals;
+    }
+
+    public int getAssists() {
+        return assists;
+    }
+
+    public void setAssists(int assists) {
+        this.assists = assists;
+    }
+
+    public int getPasses() {
+        return passes;
+    }
+
+    public void setPasses(int passes) {
+        this.passes = passes;
+    }
+
+    public int getSaves() {
+        return saves;
+    }
+
+    public void setSaves(int saves) {
+        this.saves = saves;
+    }
+}
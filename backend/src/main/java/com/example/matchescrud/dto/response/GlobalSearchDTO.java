@@ -0,0 +1,34 @@
+package com.example.matchescrud.dto.response;
+
+import java.util.List;
+
+public class GlobalSearchDTO {
+    // Hits of every type, best first
+    private List<SearchHitDTO> hits;
+    // Types whose search did not finish within the time budget, their hits are missing
+    private List<String> timedOut;
+
+    public GlobalSearchDTO() {
+    }
+
+    public GlobalSearchDTO(List<SearchHitDTO> hits, List<String> timedOut) {
+        this.hits = hits;
+        this.timedOut = timedOut;
+    }
+
+    public List<SearchHitDTO> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<SearchHitDTO> hits) {
+        this.hits = hits;
+    }
+
+    public List<String> getTimedOut() {
+        return timedOut;
+    }
+
+    public void setTimedOut(List<String> timedOut) {
+        this.timedOut = timedOut;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.matchescrud.dto.response;
+
+public class MatchImportErrorDTO {
+    // Line of the uploaded file, starting at 1 (the CSV header line)
+    private long line;
+    private String message;
+
+    public MatchImportErrorDTO() {
+    }
+
+    public MatchImportErrorDTO(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
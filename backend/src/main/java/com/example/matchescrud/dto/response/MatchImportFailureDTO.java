@@ -0,0 +1,51 @@
+package com.example.matchescrud.dto.response;
+
+public class MatchImportFailureDTO {
+    // Lines of the uploaded file holding the chunk, none of its matches were inserted
+    private long fromLine;
+    private long toLine;
+    private int matches;
+    private String message;
+
+    public MatchImportFailureDTO() {
+    }
+
+    public MatchImportFailureDTO(long fromLine, long toLine, int matches, String message) {
+        this.fromLine = fromLine;
+        this.toLine = toLine;
+        this.matches = matches;
+        this.message = message;
+    }
+
+    public long getFromLine() {
+        return fromLine;
+    }
+
+    public void setFromLine(long fromLine) {
+        this.fromLine = fromLine;
+    }
+
+    public long getToLine() {
+        return toLine;
+    }
+
+    public void setToLine(long toLine) {
+        this.toLine = toLine;
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+
+    public void setMatches(int matches) {
+        this.matches = matches;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
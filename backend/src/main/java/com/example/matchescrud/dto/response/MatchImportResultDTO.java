@@ -0,0 +1,59 @@
+package com.example.matchescrud.dto.response;
+
+import java.util.List;
+
+public class MatchImportResultDTO {
+    private int imported;
+    private int rejected;
+    // The first rejected rows with the reason, at most MatchImportServiceImp.MAX_REPORTED_ERRORS
+    private List<MatchImportErrorDTO> errors;
+    // The chunk whose insert failed, the import stops there. Earlier chunks stay imported
+    private MatchImportFailureDTO failedChunk;
+
+    public MatchImportResultDTO() {
+    }
+
+    public MatchImportResultDTO(int imported, int rejected, List<MatchImportErrorDTO> errors) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = errors;
+    }
+
+    public MatchImportResultDTO(int imported, int rejected, List<MatchImportErrorDTO> errors,
+                                MatchImportFailureDTO failedChunk) {
+        this(imported, rejected, errors);
+        this.failedChunk = failedChunk;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<MatchImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<MatchImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public MatchImportFailureDTO getFailedChunk() {
+        return failedChunk;
+    }
+
+    public void setFailedChunk(MatchImportFailureDTO failedChunk) {
+        this.failedChunk = failedChunk;
+    }
+}
@@ -36,6 +36,19 @@ public class MatchResponseDTO {
         this.revenue = revenue;
     }
 
+    // Flat constructor for JPQL projections, teams and stadium come from left joins and may be null
+    public MatchResponseDTO(UUID uuid, Long stadiumId, String stadiumName, Integer stadiumCapacity,
+                            LocalDate date, LocalTime time, Long homeTeamId, String homeTeamName,
+                            Long awayTeamId, String awayTeamName, int homeGoals, int awayGoals,
+                            int spectators, BigDecimal revenue) {
+        this(uuid,
+                stadiumId != null ? new StadiumDTO(stadiumId, stadiumName, stadiumCapacity) : null,
+                date, time,
+                new TeamReferenceDTO(homeTeamId, homeTeamName),
+                new TeamReferenceDTO(awayTeamId, awayTeamName),
+                homeGoals, awayGoals, spectators, revenue);
+    }
+
     public UUID getUuid() {
         return uuid;
     }
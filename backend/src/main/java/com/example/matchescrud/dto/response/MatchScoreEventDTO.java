@@ -0,0 +1,74 @@
+package com.example.matchescrud.dto.response;
+
+import java.util.UUID;
+
+// Payload of a live score event, only what changed plus the ids to place it
+public class MatchScoreEventDTO {
+    // CREATED or UPDATED
+    private String type;
+    private UUID uuid;
+    private Long homeTeamId;
+    private Long awayTeamId;
+    private int homeGoals;
+    private int awayGoals;
+
+    public MatchScoreEventDTO() {
+    }
+
+    public MatchScoreEventDTO(String type, UUID uuid, Long homeTeamId, Long awayTeamId, int homeGoals, int awayGoals) {
+        this.type = type;
+        this.uuid = uuid;
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.homeGoals = homeGoals;
+        this.awayGoals = awayGoals;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public void setUuid(UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    public Long getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public void setHomeTeamId(Long homeTeamId) {
+        this.homeTeamId = homeTeamId;
+    }
+
+    public Long getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    public void setAwayTeamId(Long awayTeamId) {
+        this.awayTeamId = awayTeamId;
+    }
+
+    public int getHomeGoals() {
+        return homeGoals;
+    }
+
+    public void setHomeGoals(int homeGoals) {
+        this.homeGoals = homeGoals;
+    }
+
+    public int getAwayGoals() {
+        return awayGoals;
+    }
+
+    public void setAwayGoals(int awayGoals) {
+        this.awayGoals = awayGoals;
+    }
+}
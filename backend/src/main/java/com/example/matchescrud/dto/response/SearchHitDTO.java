@@ -0,0 +1,67 @@
+package com.example.matchescrud.dto.response;
+
+public class SearchHitDTO {
+    public static final String TEAM = "team";
+    public static final String PLAYER = "player";
+    public static final String MATCH = "match";
+    public static final String STADIUM = "stadium";
+
+    private String type;
+    // Team, player and stadium ids, match uuids
+    private String id;
+    private String name;
+    private String detail;
+    // Between 0 and 1, higher is a closer match
+    private double score;
+
+    public SearchHitDTO() {
+    }
+
+    public SearchHitDTO(String type, String id, String name, String detail, double score) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.detail = detail;
+        this.score = score;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.matchescrud.dto.response;
+
+import com.example.matchescrud.dto.LeagueStandingsDTO;
+
+// One row of a live standings table, with its position in the division (1 is top)
+public class StandingsRowDTO {
+    private int position;
+    private Long teamId;
+    private String teamName;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int goalDifference;
+    private int points;
+
+    public StandingsRowDTO() {
+    }
+
+    public StandingsRowDTO(int position, LeagueStandingsDTO standing) {
+        this.position = position;
+        this.teamId = standing.getTeamId();
+        this.teamName = standing.getTeamName();
+        this.played = standing.getPlayed();
+        this.wins = standing.getWins();
+        this.draws = standing.getDraws();
+        this.losses = standing.getLosses();
+        this.goalsFor = standing.getGoalsFor();
+        this.goalsAgainst = standing.getGoalsAgainst();
+        this.goalDifference = standing.getGoalDifference();
+        this.points = standing.getPoints();
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public void setTeamName(String teamName) {
+        this.teamName = teamName;
+    }
+
+    public int getPlayed() {
+        return played;
+    }
+
+    public void setPlayed(int played) {
+        this.played = played;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public void setDraws(int draws) {
+        this.draws = draws;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public void setLosses(int losses) {
+        this.losses = losses;
+    }
+
+    public int getGoalsFor() {
+        return goalsFor;
+    }
+
+    public void setGoalsFor(int goalsFor) {
+        this.goalsFor = goalsFor;
+    }
+
+    public int getGoalsAgainst() {
+        return goalsAgainst;
+    }
+
+    public void setGoalsAgainst(int goalsAgainst) {
+        this.goalsAgainst = goalsAgainst;
+    }
+
+    public int getGoalDifference() {
+        return goalDifference;
+    }
+
+    public void setGoalDifference(int goalDifference) {
+        this.goalDifference = goalDifference;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public void setPoints(int points) {
+        this.points = points;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.matchescrud.dto.response;
+
+import java.util.List;
+
+// Message of the live standings channel of a division. A SNAPSHOT carries every row, a DELTA only
+// the rows whose position, points or goal difference changed and the teams that left the division.
+// Clients reconnect with the epoch and version of the last message they applied.
+public class StandingsUpdateDTO {
+    // SNAPSHOT or DELTA
+    private String type;
+    private Long divisionId;
+    // Changes when the server restarts, versions of another epoch cannot be resumed
+    private String epoch;
+    private long version;
+    private List<StandingsRowDTO> rows;
+    private List<Long> removedTeamIds;
+
+    public StandingsUpdateDTO() {
+    }
+
+    public StandingsUpdateDTO(String type, Long divisionId, String epoch, long version,
+                              List<StandingsRowDTO> rows, List<Long> removedTeamIds) {
+        this.type = type;
+        this.divisionId = divisionId;
+        this.epoch = epoch;
+        this.version = version;
+        this.rows = rows;
+        this.removedTeamIds = removedTeamIds;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getDivisionId() {
+        return divisionId;
+    }
+
+    public void setDivisionId(Long divisionId) {
+        this.divisionId = divisionId;
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(String epoch) {
+        this.epoch = epoch;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public List<StandingsRowDTO> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<StandingsRowDTO> rows) {
+        this.rows = rows;
+    }
+
+    public List<Long> getRemovedTeamIds() {
+        return removedTeamIds;
+    }
+
+    public void setRemovedTeamIds(List<Long> removedTeamIds) {
+        this.removedTeamIds = removedTeamIds;
+    }
+}
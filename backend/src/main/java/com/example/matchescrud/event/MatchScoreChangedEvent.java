@@ -0,0 +1,75 @@
+package com.example.matchescrud.event;
+
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Team;
+
+import java.util.UUID;
+
+// Published inside a write transaction when a match is created or its score changes. Carries the
+// ids subscribers filter on, read while the entities are still attached.
+public class MatchScoreChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED
+    }
+
+    private final Type type;
+    private final UUID matchUuid;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final Long homeDivisionId;
+    private final Long awayDivisionId;
+    private final int homeGoals;
+    private final int awayGoals;
+
+    public MatchScoreChangedEvent(Type type, Match match) {
+        this.type = type;
+        this.matchUuid = match.getUuid();
+        this.homeTeamId = teamId(match.getHomeTeam());
+        this.awayTeamId = teamId(match.getAwayTeam());
+        this.homeDivisionId = divisionId(match.getHomeTeam());
+        this.awayDivisionId = divisionId(match.getAwayTeam());
+        this.homeGoals = match.getHomeGoals();
+        this.awayGoals = match.getAwayGoals();
+    }
+
+    private static Long teamId(Team team) {
+        return team != null ? team.getId() : null;
+    }
+
+    private static Long divisionId(Team team) {
+        return team != null && team.getDivision() != null ? team.getDivision().getId() : null;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public UUID getMatchUuid() {
+        return matchUuid;
+    }
+
+    public Long getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public Long getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    public Long getHomeDivisionId() {
+        return homeDivisionId;
+    }
+
+    public Long getAwayDivisionId() {
+        return awayDivisionId;
+    }
+
+    public int getHomeGoals() {
+        return homeGoals;
+    }
+
+    public int getAwayGoals() {
+        return awayGoals;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.matchescrud.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Published inside a write transaction when the standings rows of teams in these divisions changed.
+// No division ids means every division is affected (a rebuild).
+public class StandingsChangedEvent {
+
+    private final Set<Long> divisionIds;
+
+    public StandingsChangedEvent(Long... divisionIds) {
+        this.divisionIds = Arrays.stream(divisionIds).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static StandingsChangedEvent allDivisions() {
+        return new StandingsChangedEvent();
+    }
+
+    public Set<Long> getDivisionIds() {
+        return divisionIds;
+    }
+
+    public boolean isAllDivisions() {
+        return divisionIds.isEmpty();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.matchescrud.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Published inside a write transaction when data shown on a team's dashboard changed
+// (its matches, its roster or the team itself). No team ids means every team is affected.
+public class TeamDataChangedEvent {
+
+    private final Set<Long> teamIds;
+
+    public TeamDataChangedEvent(Long... teamIds) {
+        this.teamIds = Arrays.stream(teamIds).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static TeamDataChangedEvent allTeams() {
+        return new TeamDataChangedEvent();
+    }
+
+    public Set<Long> getTeamIds() {
+        return teamIds;
+    }
+
+    public boolean isAllTeams() {
+        return teamIds.isEmpty();
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.matchescrud.model.entity;
 
+import com.example.matchescrud.config.ReferenceDataCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "city")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCacheConfig.CITY_REGION)
+@Table(name = "city", indexes = @Index(name = "idx_city_name", columnList = "name"))
 public class City {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,9 +1,14 @@
 package com.example.matchescrud.model.entity;
 
+import com.example.matchescrud.config.ReferenceDataCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "division")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCacheConfig.DIVISION_REGION)
+@Table(name = "division", indexes = @Index(name = "idx_division_name", columnList = "name"))
 public class Division {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -9,11 +9,20 @@ import java.time.LocalTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "matches")
+// Created by the V2 migration, declared here so generated schemas (tests, ddl-auto) match it
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_date_time", columnList = "date, time, uuid"),
+        @Index(name = "idx_matches_home_team_date", columnList = "home_team_id, date, time"),
+        @Index(name = "idx_matches_away_team_date", columnList = "away_team_id, date, time"),
+        @Index(name = "idx_matches_stadium_date", columnList = "stadium_id, date")
+})
 public class Match {
+    // Time-ordered version 7 id (see UuidV7), BINARY(16) on MySQL
     @Id
     private UUID uuid;
+    @Column(nullable = false)
     private LocalDate date;
+    @Column(nullable = false)
     private LocalTime time;
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(nullable = false, updatable = false)
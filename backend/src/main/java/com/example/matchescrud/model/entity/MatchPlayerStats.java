@@ -4,7 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "match_player_stats")
+@Table(name = "match_player_stats", uniqueConstraints =
+        @UniqueConstraint(name = "uk_match_player_stats_match_player", columnNames = {"match_uuid", "player_id"}))
 public class MatchPlayerStats {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
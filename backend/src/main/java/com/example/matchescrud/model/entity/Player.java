@@ -6,7 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "player")
+@Table(name = "player", uniqueConstraints =
+        @UniqueConstraint(name = "uk_player_team_jersey", columnNames = {"team_id", "jersey_number"}))
 @JsonIgnoreProperties({"matchStats"})
 public class Player {
     @Id
@@ -1,9 +1,14 @@
 package com.example.matchescrud.model.entity;
 
+import com.example.matchescrud.config.ReferenceDataCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "stadium")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCacheConfig.STADIUM_REGION)
+@Table(name = "stadium", indexes = @Index(name = "idx_stadium_name", columnList = "name"))
 public class Stadium {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
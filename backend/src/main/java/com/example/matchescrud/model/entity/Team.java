@@ -6,7 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "team")
+@Table(name = "team", indexes = @Index(name = "idx_team_name", columnList = "name"))
 @JsonIgnoreProperties({"homeMatches", "awayMatches", "players"})
 public class Team {
     @Id
@@ -1,8 +1,12 @@
 package com.example.matchescrud.repository;
 
+import com.example.matchescrud.config.ReferenceDataCacheConfig;
 import com.example.matchescrud.model.entity.City;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +14,9 @@ import java.util.Optional;
 
 @Repository
 public interface CityRepository extends JpaRepository<City, Long>{
+    // Served from the second-level cache until a city is written
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCacheConfig.QUERY_REGION)})
     @Query("SELECT c FROM City c WHERE c.name = :cityName")
     Optional<City> findByName(@Param("cityName") String cityName);
 }
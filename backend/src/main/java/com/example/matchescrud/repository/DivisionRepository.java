@@ -1,15 +1,26 @@
 package com.example.matchescrud.repository;
 
+import com.example.matchescrud.config.ReferenceDataCacheConfig;
 import com.example.matchescrud.model.entity.Division;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DivisionRepository extends JpaRepository<Division, Long> {
+    // Served from the second-level cache until a division is written
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCacheConfig.QUERY_REGION)})
     @Query("SELECT d FROM Division d WHERE d.name = :divisionName")
     Optional<Division> findByName(@Param("divisionName") String divisionName);
+
+    @Query("SELECT d.id FROM Division d ORDER BY d.id")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,11 @@
+package com.example.matchescrud.repository;
+
+import com.example.matchescrud.dto.request.PlayerStatsLineDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MatchPlayerStatsBatchRepository {
+    // Inserts or overwrites the stats of each line for the match, keyed on (match, player)
+    void upsertAll(UUID matchUuid, List<PlayerStatsLineDTO> lines);
+}
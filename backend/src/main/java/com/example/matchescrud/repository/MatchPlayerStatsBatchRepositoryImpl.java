@@ -0,0 +1,60 @@
+package com.example.matchescrud.repository;
+
+import com.example.matchescrud.dto.request.PlayerStatsLineDTO;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+// Plain JDBC because the IDENTITY ids keep Hibernate from batching the inserts. The lines go out as one
+// batch, which the MySQL driver rewrites into a single multi-row statement (rewriteBatchedStatements),
+// and run on the connection of the surrounding JPA transaction.
+public class MatchPlayerStatsBatchRepositoryImpl implements MatchPlayerStatsBatchRepository {
+
+    // MySQL 8.0.19+ names the inserted row with an alias, VALUES(col) is deprecated there since 8.0.20
+    private static final String UPSERT = "insert into match_player_stats " +
+            "(match_uuid, player_id, goals, assists, passes, saves) values (?, ?, ?, ?, ?, ?) as new " +
+            "on duplicate key update goals = new.goals, assists = new.assists, " +
+            "passes = new.passes, saves = new.saves";
+    // H2's MySQL mode emulates ON DUPLICATE KEY UPDATE but not the row alias
+    private static final String H2_UPSERT = "insert into match_player_stats " +
+            "(match_uuid, player_id, goals, assists, passes, saves) values (?, ?, ?, ?, ?, ?) " +
+            "on duplicate key update goals = values(goals), assists = values(assists), " +
+            "passes = values(passes), saves = values(saves)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsert;
+
+    public MatchPlayerStatsBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(UUID matchUuid, List<PlayerStatsLineDTO> lines) {
+        // match_uuid is BINARY(16), bound the way Hibernate writes it
+        byte[] match = ByteBuffer.allocate(16)
+                .putLong(matchUuid.getMostSignificantBits())
+                .putLong(matchUuid.getLeastSignificantBits())
+                .array();
+        jdbcTemplate.batchUpdate(upsert(), lines, lines.size(), (statement, line) -> {
+            statement.setBytes(1, match);
+            statement.setLong(2, line.getPlayerId());
+            statement.setInt(3, line.getGoals());
+            statement.setInt(4, line.getAssists());
+            statement.setInt(5, line.getPasses());
+            statement.setInt(6, line.getSaves());
+        });
+    }
+
+    // Picked from the database the application is connected to, not the configured dialect
+    private String upsert() {
+        if (upsert == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            upsert = "H2".equals(product) ? H2_UPSERT : UPSERT;
+        }
+        return upsert;
+    }
+}
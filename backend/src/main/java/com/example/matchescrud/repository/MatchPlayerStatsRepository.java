@@ -1,6 +1,9 @@
 package com.example.matchescrud.repository;
 
+import com.example.matchescrud.dto.TopAssistsDTO;
+import com.example.matchescrud.dto.TopScorerDTO;
 import com.example.matchescrud.model.entity.MatchPlayerStats;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +14,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface MatchPlayerStatsRepository extends JpaRepository<MatchPlayerStats, Long> {
+public interface MatchPlayerStatsRepository extends JpaRepository<MatchPlayerStats, Long>, MatchPlayerStatsBatchRepository {
     @Query("SELECT mps FROM MatchPlayerStats mps " +
            "LEFT JOIN FETCH mps.match m " +
            "LEFT JOIN FETCH m.homeTeam " +
@@ -21,6 +24,26 @@ public interface MatchPlayerStatsRepository extends JpaRepository<MatchPlayerSta
     List<MatchPlayerStats> findByPlayerId(@Param("playerId") Long playerId);
     
     List<MatchPlayerStats> findByMatchUuid(UUID matchUuid);
-    Optional<MatchPlayerStats> findByMatchUuidAndPlayerId(UUID matchUuid, Long playerId);
+    // Compares the foreign keys, a derived query would join matches and player to read their ids
+    @Query("SELECT mps FROM MatchPlayerStats mps WHERE mps.match.uuid = :matchUuid AND mps.player.id = :playerId")
+    Optional<MatchPlayerStats> findByMatchUuidAndPlayerId(@Param("matchUuid") UUID matchUuid, @Param("playerId") Long playerId);
+
+    // Goals per player aggregated in the database, highest first
+    @Query("SELECT new com.example.matchescrud.dto.TopScorerDTO(" +
+           "p.id, COALESCE(p.name, 'Unknown'), COALESCE(t.name, 'Unknown Team'), t.id, " +
+           "CAST(SUM(mps.goals) AS Integer), CAST(COUNT(mps) AS Integer)) " +
+           "FROM MatchPlayerStats mps JOIN mps.player p LEFT JOIN p.team t " +
+           "GROUP BY p.id, p.name, t.id, t.name " +
+           "ORDER BY SUM(mps.goals) DESC, p.id")
+    List<TopScorerDTO> findTopScorers(Pageable pageable);
+
+    // Assists per player aggregated in the database, highest first
+    @Query("SELECT new com.example.matchescrud.dto.TopAssistsDTO(" +
+           "p.id, COALESCE(p.name, 'Unknown'), COALESCE(t.name, 'Unknown Team'), t.id, " +
+           "CAST(SUM(mps.assists) AS Integer), CAST(COUNT(mps) AS Integer)) " +
+           "FROM MatchPlayerStats mps JOIN mps.player p LEFT JOIN p.team t " +
+           "GROUP BY p.id, p.name, t.id, t.name " +
+           "ORDER BY SUM(mps.assists) DESC, p.id")
+    List<TopAssistsDTO> findTopAssists(Pageable pageable);
 }
 
@@ -1,20 +1,30 @@
 package com.example.matchescrud.repository;
 
+import com.example.matchescrud.dto.response.MatchResponseDTO;
 import com.example.matchescrud.model.entity.Match;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, UUID> {
-    // Find matches by home team with eager fetching
+    // Find matches by home team with eager fetching. The filtered team is the first join and an
+    // inner one, so the team is read first and its matches are found through the team index on matches
     @Query("SELECT DISTINCT m FROM Match m " +
-           "LEFT JOIN FETCH m.homeTeam " +
+           "JOIN FETCH m.homeTeam " +
            "LEFT JOIN FETCH m.awayTeam " +
            "LEFT JOIN FETCH m.stadium " +
            "WHERE m.homeTeam.id = :teamId")
@@ -22,27 +32,67 @@ public interface MatchRepository extends JpaRepository<Match, UUID> {
     
     // Find matches by away team with eager fetching
     @Query("SELECT DISTINCT m FROM Match m " +
+           "JOIN FETCH m.awayTeam " +
            "LEFT JOIN FETCH m.homeTeam " +
-           "LEFT JOIN FETCH m.awayTeam " +
            "LEFT JOIN FETCH m.stadium " +
            "WHERE m.awayTeam.id = :teamId")
     List<Match> findByAwayTeamId(@Param("teamId") Long teamId);
     
-    // Filter matches by various criteria with eager fetching of teams
-    @Query("SELECT DISTINCT m FROM Match m " +
-           "LEFT JOIN FETCH m.homeTeam " +
-           "LEFT JOIN FETCH m.awayTeam " +
-           "LEFT JOIN FETCH m.stadium " +
-           "WHERE (:divisionId IS NULL OR m.homeTeam.division.id = :divisionId OR m.awayTeam.division.id = :divisionId) AND " +
-           "(:stadiumId IS NULL OR m.stadium.id = :stadiumId) AND " +
-           "(:teamId IS NULL OR m.homeTeam.id = :teamId OR m.awayTeam.id = :teamId) AND " +
+    // Selects exactly the columns of MatchResponseDTO, so read-only listings skip entity hydration
+    String MATCH_RESPONSE_SELECT = "SELECT new com.example.matchescrud.dto.response.MatchResponseDTO(" +
+           "m.uuid, s.id, s.name, s.capacity, m.date, m.time, ht.id, ht.name, at.id, at.name, " +
+           "m.homeGoals, m.awayGoals, m.spectators, m.revenue) " +
+           "FROM Match m " +
+           "LEFT JOIN m.homeTeam ht " +
+           "LEFT JOIN m.awayTeam at " +
+           "LEFT JOIN m.stadium s ";
+
+    @Query(MATCH_RESPONSE_SELECT)
+    List<MatchResponseDTO> findAllMatchResponses();
+
+    @Query(MATCH_RESPONSE_SELECT + "WHERE m.uuid = :uuid")
+    Optional<MatchResponseDTO> findMatchResponseByUuid(@Param("uuid") UUID uuid);
+
+    // Filter matches by various criteria.
+    // Keyset paginated on (date, time, uuid): pass the last row of the previous page as the cursor
+    @Query(MATCH_RESPONSE_SELECT +
+           "WHERE (:divisionId IS NULL OR ht.division.id = :divisionId OR at.division.id = :divisionId) AND " +
+           "(:stadiumId IS NULL OR s.id = :stadiumId) AND " +
+           "(:teamId IS NULL OR ht.id = :teamId OR at.id = :teamId) AND " +
            "(:startDate IS NULL OR m.date >= :startDate) AND " +
-           "(:endDate IS NULL OR m.date <= :endDate)")
-    List<Match> findMatchesWithFilters(
+           "(:endDate IS NULL OR m.date <= :endDate) AND " +
+           "(:cursorDate IS NULL OR m.date > :cursorDate " +
+           "OR (m.date = :cursorDate AND m.time > :cursorTime) " +
+           "OR (m.date = :cursorDate AND m.time = :cursorTime AND m.uuid > :cursorUuid)) " +
+           "ORDER BY m.date, m.time, m.uuid")
+    List<MatchResponseDTO> findMatchResponsesWithFilters(
         @Param("divisionId") Long divisionId,
         @Param("stadiumId") Long stadiumId,
         @Param("teamId") Long teamId,
         @Param("startDate") LocalDate startDate,
-        @Param("endDate") LocalDate endDate
+        @Param("endDate") LocalDate endDate,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorTime") LocalTime cursorTime,
+        @Param("cursorUuid") UUID cursorUuid,
+        Pageable pageable
     );
+
+    // Whole table in (date, time, uuid) order, read incrementally from the driver.
+    // Must be consumed inside a transaction and closed afterwards
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(MATCH_RESPONSE_SELECT + "ORDER BY m.date, m.time, m.uuid")
+    Stream<MatchResponseDTO> streamAllMatchResponses();
+
+    // Latest matches played by any of the teams, used to find matches by opponent name
+    @Query(MATCH_RESPONSE_SELECT + "WHERE ht.id IN :teamIds OR at.id IN :teamIds ORDER BY m.date DESC, m.time DESC")
+    List<MatchResponseDTO> findLatestMatchResponsesByTeamIds(@Param("teamIds") Collection<Long> teamIds, Pageable pageable);
+
+    // Bare results of every match involving a team of the division (or a team without a division
+    // when divisionId is null), used to rebuild the standings read model without hydrating teams
+    @Query("SELECT ht.id, at.id, m.homeGoals, m.awayGoals FROM Match m " +
+           "JOIN m.homeTeam ht JOIN m.awayTeam at " +
+           "LEFT JOIN ht.division hd LEFT JOIN at.division ad " +
+           "WHERE (:divisionId IS NULL AND (hd.id IS NULL OR ad.id IS NULL)) " +
+           "OR hd.id = :divisionId OR ad.id = :divisionId")
+    List<Object[]> findResultsByDivisionId(@Param("divisionId") Long divisionId);
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,14 +14,18 @@ import java.util.Optional;
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     List<Player> findByTeamId(Long teamId);
     Optional<Player> findByTeamIdAndJerseyNumber(Long teamId, int jerseyNumber);
-    boolean existsByTeamIdAndJerseyNumber(Long teamId, int jerseyNumber);
-    
-    // Search by name
-    @Query("SELECT p FROM Player p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    List<Player> searchByName(@Param("searchTerm") String searchTerm);
+    // Compares the foreign key, a derived query would join team to read its id
+    @Query("SELECT COUNT(p) > 0 FROM Player p WHERE p.team.id = :teamId AND p.jerseyNumber = :jerseyNumber")
+    boolean existsByTeamIdAndJerseyNumber(@Param("teamId") Long teamId, @Param("jerseyNumber") int jerseyNumber);
+    long countByTeamId(Long teamId);
+    List<Player> findByTeamIdIn(Collection<Long> teamIds);
     
     // Filter by position
     @Query("SELECT p FROM Player p WHERE (:teamId IS NULL OR p.team.id = :teamId) AND (:position IS NULL OR LOWER(p.position) = LOWER(:position)) AND (:minJersey IS NULL OR p.jerseyNumber >= :minJersey) AND (:maxJersey IS NULL OR p.jerseyNumber <= :maxJersey)")
     List<Player> filterPlayers(@Param("teamId") Long teamId, @Param("position") String position, @Param("minJersey") Integer minJersey, @Param("maxJersey") Integer maxJersey);
+
+    // Players of the given teams (matched by team name or username) with their team loaded
+    @Query("SELECT p FROM Player p JOIN FETCH p.team t WHERE t.name IN :teamNames OR t.username IN :teamNames")
+    List<Player> findByTeamNames(@Param("teamNames") Collection<String> teamNames);
 }
 
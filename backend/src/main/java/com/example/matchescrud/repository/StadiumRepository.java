@@ -1,14 +1,41 @@
 package com.example.matchescrud.repository;
 
+import com.example.matchescrud.dto.StadiumStatsDTO;
+import com.example.matchescrud.config.ReferenceDataCacheConfig;
 import com.example.matchescrud.model.entity.Stadium;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StadiumRepository extends JpaRepository<Stadium, Long> {
+    // Served from the second-level cache until a stadium is written
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCacheConfig.QUERY_REGION)})
     @Query("SELECT s FROM Stadium s WHERE s.name = :stadiumName")
-    Optional<Stadium> findByName(@Param("stadiumName") String stadiumName);}
+    Optional<Stadium> findByName(@Param("stadiumName") String stadiumName);
+
+    // One row per stadium with its match totals. Filters sit in the join condition so stadiums
+    // without matching games are still listed with zeros; division is the home team's division
+    @Query("SELECT new com.example.matchescrud.dto.StadiumStatsDTO(" +
+           "s.id, COALESCE(s.name, 'Unknown'), s.capacity, COUNT(m), " +
+           "COALESCE(SUM(m.spectators), 0L), COALESCE(SUM(m.revenue), 0)) " +
+           "FROM Stadium s LEFT JOIN Match m ON m.stadium.id = s.id " +
+           "AND (:startDate IS NULL OR m.date >= :startDate) " +
+           "AND (:endDate IS NULL OR m.date <= :endDate) " +
+           "AND (:divisionId IS NULL OR m.homeTeam.id IN " +
+           "(SELECT t.id FROM Team t WHERE t.division.id = :divisionId)) " +
+           "GROUP BY s.id, s.name, s.capacity " +
+           "ORDER BY COALESCE(SUM(m.spectators), 0L) DESC, s.id")
+    List<StadiumStatsDTO> findStadiumStatistics(@Param("divisionId") Long divisionId,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+}
@@ -20,7 +20,17 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     
-    // Search by name
-    @Query("SELECT t FROM Team t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    List<Team> searchByName(@Param("searchTerm") String searchTerm);
+    // Ids of the division's teams, or of teams without a division when divisionId is null
+    @Query("SELECT t.id FROM Team t LEFT JOIN t.division d " +
+           "WHERE (:divisionId IS NULL AND d.id IS NULL) OR d.id = :divisionId")
+    List<Long> findIdsByDivisionId(@Param("divisionId") Long divisionId);
+
+    // Teams embedding a stadium, city or division in their search index entry
+    List<Team> findByStadiumId(Long stadiumId);
+    List<Team> findByCityId(Long cityId);
+    List<Team> findByDivisionId(Long divisionId);
+
+    // Id, name, stadium id and stadium capacity of every team, for resolving imported matches
+    @Query("SELECT t.id, t.name, s.id, s.capacity FROM Team t LEFT JOIN t.stadium s")
+    List<Object[]> findImportReferences();
 }
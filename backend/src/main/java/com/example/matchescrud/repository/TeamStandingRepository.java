@@ -0,0 +1,77 @@
+package com.example.matchescrud.repository;
+
+import com.example.matchescrud.dto.LeagueStandingsDTO;
+import com.example.matchescrud.model.entity.TeamStanding;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TeamStandingRepository extends JpaRepository<TeamStanding, Long> {
+    // Standings for one division, teams without a standings row are reported with zeros
+    @Query("SELECT new com.example.matchescrud.dto.LeagueStandingsDTO(" +
+           "t.id, COALESCE(t.name, 'Unnamed Team'), " +
+           "COALESCE(s.played, 0), COALESCE(s.wins, 0), COALESCE(s.draws, 0), COALESCE(s.losses, 0), " +
+           "COALESCE(s.goalsFor, 0), COALESCE(s.goalsAgainst, 0), " +
+           "COALESCE(s.goalsFor, 0) - COALESCE(s.goalsAgainst, 0), COALESCE(s.points, 0), " +
+           "d.id, d.name) " +
+           "FROM Team t JOIN t.division d " +
+           "LEFT JOIN TeamStanding s ON s.team.id = t.id " +
+           "WHERE d.id = :divisionId " +
+           "ORDER BY COALESCE(s.points, 0) DESC, " +
+           "COALESCE(s.goalsFor, 0) - COALESCE(s.goalsAgainst, 0) DESC, " +
+           "COALESCE(s.goalsFor, 0) DESC")
+    List<LeagueStandingsDTO> findStandingsByDivisionId(@Param("divisionId") Long divisionId);
+
+    // Standings for every division, grouped by division
+    @Query("SELECT new com.example.matchescrud.dto.LeagueStandingsDTO(" +
+           "t.id, COALESCE(t.name, 'Unnamed Team'), " +
+           "COALESCE(s.played, 0), COALESCE(s.wins, 0), COALESCE(s.draws, 0), COALESCE(s.losses, 0), " +
+           "COALESCE(s.goalsFor, 0), COALESCE(s.goalsAgainst, 0), " +
+           "COALESCE(s.goalsFor, 0) - COALESCE(s.goalsAgainst, 0), COALESCE(s.points, 0), " +
+           "d.id, d.name) " +
+           "FROM Team t JOIN t.division d " +
+           "LEFT JOIN TeamStanding s ON s.team.id = t.id " +
+           "ORDER BY d.id, COALESCE(s.points, 0) DESC, " +
+           "COALESCE(s.goalsFor, 0) - COALESCE(s.goalsAgainst, 0) DESC, " +
+           "COALESCE(s.goalsFor, 0) DESC")
+    List<LeagueStandingsDTO> findAllStandings();
+
+    // Applies a result delta in place so concurrent results for the same team do not overwrite each other
+    @Modifying
+    @Query("UPDATE TeamStanding s SET " +
+           "s.played = s.played + :played, s.wins = s.wins + :wins, s.draws = s.draws + :draws, " +
+           "s.losses = s.losses + :losses, s.goalsFor = s.goalsFor + :goalsFor, " +
+           "s.goalsAgainst = s.goalsAgainst + :goalsAgainst, s.points = s.points + :points " +
+           "WHERE s.team.id = :teamId")
+    int applyDelta(@Param("teamId") Long teamId, @Param("played") int played, @Param("wins") int wins,
+                   @Param("draws") int draws, @Param("losses") int losses, @Param("goalsFor") int goalsFor,
+                   @Param("goalsAgainst") int goalsAgainst, @Param("points") int points);
+
+    // Empty row for a team that has none yet. A concurrent insert for the same team waits on the
+    // unique key and is then ignored, so two first results never fail on each other
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO team_standings " +
+           "(team_id, played, wins, draws, losses, goals_for, goals_against, points) " +
+           "VALUES (:teamId, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    int insertEmptyStanding(@Param("teamId") Long teamId);
+
+    // Empty rows for every team that has none yet
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO team_standings " +
+           "(team_id, played, wins, draws, losses, goals_for, goals_against, points) " +
+           "SELECT t.id, 0, 0, 0, 0, 0, 0, 0 FROM team t " +
+           "WHERE NOT EXISTS (SELECT 1 FROM team_standings s WHERE s.team_id = t.id)", nativeQuery = true)
+    int insertMissingStandings();
+
+    // Every row locked until the transaction ends, in team order like the result deltas so the two never deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TeamStanding s ORDER BY s.team.id")
+    List<TeamStanding> findAllForUpdate();
+}
@@ -9,10 +9,13 @@ import com.example.matchescrud.exceptions.NotFoundExceptions.UserNotFoundExcepti
 import com.example.matchescrud.model.entity.User;
 import com.example.matchescrud.repository.UserRepository;
 import com.example.matchescrud.service.interfaces.IAdminService;
+import com.example.matchescrud.service.interfaces.IStandingsService;
 import com.example.matchescrud.service.interfaces.ITeamService;
-import jakarta.transaction.Transactional;
+import com.example.matchescrud.util.TtlCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,10 +24,17 @@ public class AdminServiceImp implements IAdminService {
 
     private final UserRepository userRepository;
     private final ITeamService teamService;
+    private final IStandingsService standingsService;
+    private final StatisticsCache statisticsCache;
+    private final AdminTokenService adminTokenService;
 
-    public AdminServiceImp(UserRepository userRepository, ITeamService teamService) {
+    public AdminServiceImp(UserRepository userRepository, ITeamService teamService, IStandingsService standingsService,
+                           StatisticsCache statisticsCache, AdminTokenService adminTokenService) {
         this.userRepository = userRepository;
         this.teamService = teamService;
+        this.standingsService = standingsService;
+        this.statisticsCache = statisticsCache;
+        this.adminTokenService = adminTokenService;
     }
 
     @Override
@@ -95,10 +105,16 @@ public class AdminServiceImp implements IAdminService {
             throw new UnauthorizedException("Access denied. Admin role required.");
         }
 
-        return convertToDTO(user);
+        // Signed token carrying the role, so later admin requests are checked without a user lookup
+        UserDTO dto = convertToDTO(user);
+        Instant expiresAt = Instant.now().plus(adminTokenService.getTtl());
+        dto.setToken(adminTokenService.issue(user.getUsername(), user.getRole(), expiresAt));
+        dto.setTokenExpiresAt(expiresAt);
+        return dto;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllAdmins() {
         return userRepository.findAll().stream()
                 .filter(user -> user.getRole() == User.Role.ADMIN)
@@ -113,6 +129,20 @@ public class AdminServiceImp implements IAdminService {
         return teamService.deleteTeamById(id);
     }
 
+    @Override
+    @Transactional
+    public int rebuildStandings() {
+        // Repairs the standings read model if it drifted from the matches table
+        int teams = standingsService.rebuildStandings();
+        statisticsCache.invalidateAll();
+        return teams;
+    }
+
+    @Override
+    public List<TtlCache.Stats> getStatisticsCacheStats() {
+        return statisticsCache.stats();
+    }
+
     private UserDTO convertToDTO(User user) {
         UserDTO dto = new UserDTO();
         dto.setId(user.getId());
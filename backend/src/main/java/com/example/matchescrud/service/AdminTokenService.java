@@ -0,0 +1,196 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.exceptions.UnauthorizedException;
+import com.example.matchescrud.model.entity.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Issues and verifies the admin tokens handed out at login, so an admin check is a signature check
+// instead of a user lookup. A token is "keyId.payload.signature": the payload is base64url JSON with
+// the username, role, token id and expiry, signed with HMAC-SHA256 under the named key.
+//
+// Keys are listed as id:base64secret. The first one signs, the others are only accepted, so a key is
+// rotated by putting the new one first and dropping the old one once its tokens have expired.
+//
+// Revoked token ids are kept in memory until the token would have expired anyway, which keeps the
+// list as small as the number of logouts within one token lifetime. It is per instance, not shared.
+@Service
+public class AdminTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminTokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+    private final String signingKeyId;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdminTokenService(@Value("${admin.token.keys:}") String keys,
+                             @Value("${admin.token.ttl-minutes:60}") long ttlMinutes,
+                             ObjectMapper objectMapper) {
+        this(keys, Duration.ofMinutes(ttlMinutes), Clock.systemUTC(), objectMapper);
+    }
+
+    AdminTokenService(String keys, Duration ttl, Clock clock, ObjectMapper objectMapper) {
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("admin.token.keys entries must be id:base64secret");
+            }
+            String id = entry.substring(0, separator).trim();
+            byte[] secret = Base64.getDecoder().decode(entry.substring(separator + 1).trim());
+            if (secret.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("Admin token key " + id + " must be at least " + MIN_KEY_BYTES + " bytes");
+            }
+            this.keys.put(id, new SecretKeySpec(secret, ALGORITHM));
+        }
+        if (this.keys.isEmpty()) {
+            byte[] secret = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(secret);
+            this.keys.put("local", new SecretKeySpec(secret, ALGORITHM));
+            logger.warn("No admin.token.keys configured, signing with a random key; admin tokens end with this process");
+        }
+        this.signingKeyId = this.keys.keySet().iterator().next();
+        this.ttl = ttl;
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public String issue(String username, User.Role role, Instant expiresAt) {
+        ObjectNode payload = objectMapper.createObjectNode()
+                .put("sub", username)
+                .put("role", role.name())
+                .put("jti", UUID.randomUUID().toString())
+                .put("exp", expiresAt.getEpochSecond());
+        String signed = signingKeyId + "." + encode(payload.toString().getBytes(StandardCharsets.UTF_8));
+        return signed + "." + encode(sign(keys.get(signingKeyId), signed));
+    }
+
+    // Throws for anything other than an unexpired, unrevoked token signed by a known key
+    public Claims verify(String token) throws UnauthorizedException {
+        if (token == null) {
+            throw invalid();
+        }
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first <= 0 || last == first) {
+            throw invalid();
+        }
+        SecretKeySpec key = keys.get(token.substring(0, first));
+        if (key == null) {
+            throw invalid();
+        }
+        String signed = token.substring(0, last);
+        byte[] signature;
+        JsonNode payload;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(last + 1));
+            if (!MessageDigest.isEqual(sign(key, signed), signature)) {
+                throw invalid();
+            }
+            payload = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(first + 1, last)));
+        } catch (IllegalArgumentException | IOException e) {
+            throw invalid();
+        }
+
+        Claims claims = new Claims(payload.path("sub").asText(), payload.path("role").asText(),
+                payload.path("jti").asText(), Instant.ofEpochSecond(payload.path("exp").asLong()));
+        if (!clock.instant().isBefore(claims.expiresAt)) {
+            throw new UnauthorizedException("Admin token has expired");
+        }
+        if (revoked.containsKey(claims.tokenId)) {
+            throw new UnauthorizedException("Admin token has been revoked");
+        }
+        return claims;
+    }
+
+    public void revoke(String token) throws UnauthorizedException {
+        Claims claims = verify(token);
+        Instant now = clock.instant();
+        revoked.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+        revoked.put(claims.tokenId, claims.expiresAt);
+    }
+
+    int revokedCount() {
+        return revoked.size();
+    }
+
+    private static byte[] sign(SecretKeySpec key, String signed) {
+        try {
+            // Mac is not thread safe, a new one per call is cheap next to the request
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signed.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static UnauthorizedException invalid() {
+        return new UnauthorizedException("Invalid admin token");
+    }
+
+    public static class Claims {
+        private final String username;
+        private final String role;
+        private final String tokenId;
+        private final Instant expiresAt;
+
+        private Claims(String username, String role, String tokenId, Instant expiresAt) {
+            this.username = username;
+            this.role = role;
+            this.tokenId = tokenId;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public String getTokenId() {
+            return tokenId;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
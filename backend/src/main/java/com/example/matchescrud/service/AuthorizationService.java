@@ -2,42 +2,59 @@ package com.example.matchescrud.service;
 
 import com.example.matchescrud.exceptions.UnauthorizedException;
 import com.example.matchescrud.model.entity.User;
-import com.example.matchescrud.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuthorizationService {
-    
-    private final UserRepository userRepository;
-    
-    public AuthorizationService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+
+    private static final String BEARER = "Bearer ";
+
+    private final AdminTokenService adminTokenService;
+
+    public AuthorizationService(AdminTokenService adminTokenService) {
+        this.adminTokenService = adminTokenService;
     }
-    
+
     /**
-     * Check if a user is an administrator
-     * @param username The username to check
-     * @return true if user is admin, false otherwise
+     * Check if the Authorization header carries a valid admin token
+     * @param authorization The Authorization header, "Bearer " followed by the token from admin login
+     * @return true if the token is valid and carries the admin role, false otherwise
      */
-    public boolean isAdmin(String username) {
-        if (username == null || username.trim().isEmpty()) {
+    public boolean isAdmin(String authorization) {
+        try {
+            requireAdmin(authorization);
+            return true;
+        } catch (UnauthorizedException e) {
             return false;
         }
-        
-        return userRepository.findByUsername(username.trim())
-                .map(user -> user.getRole() == User.Role.ADMIN)
-                .orElse(false);
     }
-    
+
     /**
-     * Verify that the user is an administrator, throw exception if not
-     * @param username The username to verify
-     * @throws UnauthorizedException if user is not an admin
+     * Verify that the request comes from an administrator, throw exception if not.
+     * Only the token signature and expiry are checked, there is no user lookup.
+     * @param authorization The Authorization header, "Bearer " followed by the token from admin login
+     * @throws UnauthorizedException if the token is missing, invalid, expired, revoked or not an admin's
      */
-    public void requireAdmin(String username) throws UnauthorizedException {
-        if (!isAdmin(username)) {
+    public void requireAdmin(String authorization) throws UnauthorizedException {
+        AdminTokenService.Claims claims = adminTokenService.verify(token(authorization));
+        if (!User.Role.ADMIN.name().equals(claims.getRole())) {
             throw new UnauthorizedException("Access denied. Administrator privileges required.");
         }
     }
-}
 
+    /**
+     * Revoke the admin token of the Authorization header before it expires
+     * @param authorization The Authorization header, "Bearer " followed by the token from admin login
+     * @throws UnauthorizedException if the token is not valid
+     */
+    public void revoke(String authorization) throws UnauthorizedException {
+        adminTokenService.revoke(token(authorization));
+    }
+
+    private static String token(String authorization) throws UnauthorizedException {
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            throw new UnauthorizedException("Access denied. Administrator privileges required.");
+        }
+        return authorization.substring(BEARER.length()).trim();
+    }
+}
@@ -8,8 +8,8 @@ import com.example.matchescrud.exceptions.NotFoundExceptions.CityNotFoundExcepti
 import com.example.matchescrud.model.entity.City;
 import com.example.matchescrud.repository.CityRepository;
 import com.example.matchescrud.service.interfaces.ICityService;
-import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,13 +20,15 @@ public class CityServiceImp implements ICityService {
     //Dependency injection
     CityRepository cityRepository;
     CityMapper cityMapper;
-    public CityServiceImp(CityRepository cityRepository, CityMapper cityMapper){
+    SearchIndex searchIndex;
+    public CityServiceImp(CityRepository cityRepository, CityMapper cityMapper, SearchIndex searchIndex){
         this.cityMapper = cityMapper;
         this.cityRepository = cityRepository;
+        this.searchIndex = searchIndex;
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<CityDTO> getAllCity() {
         List<City> cities = cityRepository.findAll();
@@ -34,7 +36,7 @@ public class CityServiceImp implements ICityService {
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public CityDTO getCityById(Long id) throws ApiException {
         City city = cityRepository.findById(id).orElseThrow(()-> new CityNotFoundException(id));
@@ -51,6 +53,7 @@ public class CityServiceImp implements ICityService {
             existingCity.setName(cityDTO.getName());
 
             cityRepository.save(existingCity);
+            searchIndex.citySaved(existingCity);
             return cityMapper.cityToCityDTO(existingCity);
         }).orElseThrow(() -> new CityNotFoundException(id));
     }
@@ -68,6 +71,7 @@ public class CityServiceImp implements ICityService {
             throw new CityAlreadyExist(optionalCity.get().getName());
         }
         cityRepository.save(city);
+        searchIndex.citySaved(city);
         return cityMapper.cityToCityDTO(city);
     }
 
@@ -80,6 +84,7 @@ public class CityServiceImp implements ICityService {
         if(optionalCity.isPresent()){
             //Deletes city from DB
             cityRepository.delete(optionalCity.get());
+            searchIndex.cityDeleted(id);
             return cityMapper.cityToCityDTO(optionalCity.get());
         }
         throw new CityNotFoundException(id);
@@ -8,8 +8,8 @@ import com.example.matchescrud.exceptions.NotFoundExceptions.DivisionNotFoundExc
 import com.example.matchescrud.model.entity.Division;
 import com.example.matchescrud.repository.DivisionRepository;
 import com.example.matchescrud.service.interfaces.IDivisionService;
-import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,13 +20,15 @@ public class DivisionServiceImp implements IDivisionService {
     //Dependency inyection
     DivisionMapper divisionMapper;
     DivisionRepository divisionRepository;
-    public DivisionServiceImp (DivisionRepository divisionRepository, DivisionMapper divisionMapper){
+    SearchIndex searchIndex;
+    public DivisionServiceImp (DivisionRepository divisionRepository, DivisionMapper divisionMapper, SearchIndex searchIndex){
         this.divisionMapper = divisionMapper;
         this.divisionRepository = divisionRepository;
+        this.searchIndex = searchIndex;
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<DivisionDTO> getAllDivision() {
         List<Division> divisions = divisionRepository.findAll();
@@ -34,7 +36,7 @@ public class DivisionServiceImp implements IDivisionService {
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public DivisionDTO getDivisionById(Long id) throws ApiException {
         Division division = divisionRepository.findById(id).orElseThrow(()-> new DivisionNotFoundException(id));
@@ -51,6 +53,7 @@ public class DivisionServiceImp implements IDivisionService {
             existingDivision.setName(divisionDTO.getName());
 
             divisionRepository.save(existingDivision);
+            searchIndex.divisionSaved(existingDivision);
             return divisionMapper.divisionToDivisionDTO(existingDivision);
         }).orElseThrow(() -> new DivisionNotFoundException(id));
     }
@@ -0,0 +1,284 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.response.MatchScoreEventDTO;
+import com.example.matchescrud.event.MatchScoreChangedEvent;
+import com.example.matchescrud.exceptions.ApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fans committed score changes out to the live score subscribers. An idle subscriber is only an
+// async request and a small buffer, no thread is held for it. Publishing never waits on a client:
+// the event is serialized once, appended to the buffer of each subscriber whose filters match, and
+// a sender thread writes it out. A buffer that is full drops its oldest event, so a slow client
+// skips scores it could not keep up with instead of holding back the others. A client that stops
+// reading altogether blocks the send writing to it, and the container has no write timeout for
+// async responses: a send running past the send timeout drops its subscriber and a sender thread
+// is added in place of the blocked one, removed again once that send returns.
+@Component
+public class MatchEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchEventBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxStuckSenders;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    // A subscriber has at most one drain task queued, so the queue is bounded by the subscribers
+    private final ThreadPoolExecutor senders;
+    // Subscribers dropped while their send was blocked, counted against max-subscribers until it returns
+    private final AtomicInteger stuckSubscribers = new AtomicInteger();
+    // Sender threads added in place of blocked ones, guarded by senders
+    private int replacementSenders;
+    private final ScheduledExecutorService timers =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("match-events-timer-"));
+
+    public MatchEventBroadcaster(ObjectMapper objectMapper,
+                                 @Value("${match.events.buffer-size:32}") int bufferSize,
+                                 @Value("${match.events.max-subscribers:10000}") int maxSubscribers,
+                                 @Value("${match.events.timeout-millis:1800000}") long timeoutMillis,
+                                 @Value("${match.events.heartbeat-seconds:30}") long heartbeatSeconds,
+                                 @Value("${match.events.sender-threads:4}") int senderThreads,
+                                 @Value("${match.events.send-timeout-millis:10000}") long sendTimeoutMillis,
+                                 @Value("${match.events.max-stuck-senders:64}") int maxStuckSenders) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.maxStuckSenders = maxStuckSenders;
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("match-events-"));
+        // Keeps proxies from closing quiet connections and finds the clients that went away
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        timers.scheduleWithFixedDelay(() -> subscribers.forEach(subscriber -> subscriber.offerIfIdle(heartbeat)),
+                heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        long checkMillis = Math.max(sendTimeoutMillis / 2, 1);
+        timers.scheduleWithFixedDelay(this::dropStuckSubscribers, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Every filter given must match: a team plays in the match, a division is either team's, or the match itself
+    public SseEmitter subscribe(Long teamId, Long divisionId, UUID matchUuid) throws ApiException {
+        if (subscribers.size() + stuckSubscribers.get() >= maxSubscribers) {
+            throw new ApiException("Too many live score subscribers, try again later", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, teamId, divisionId, matchUuid);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        // The client reconnects on its own once the stream ends
+        emitter.onTimeout(emitter::complete);
+        // Sent right away so the client sees the response start
+        subscriber.offer(SseEmitter.event().comment("subscribed").build());
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // After commit, a rolled back change is never announced
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchScoreChanged(MatchScoreChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        MatchScoreEventDTO payload = new MatchScoreEventDTO(event.getType().name(), event.getMatchUuid(),
+                event.getHomeTeamId(), event.getAwayTeamId(), event.getHomeGoals(), event.getAwayGoals());
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(Long.toString(sequence.incrementAndGet()))
+                    .name("score")
+                    .data(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize score event for match {}", event.getMatchUuid(), e);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    // A blocked send holds the emitter's lock, so the emitter is completed by its sender once the send returns
+    private void dropStuckSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.dropIfStuck(now)) {
+                subscribers.remove(subscriber);
+                logger.warn("Live score subscriber stopped reading, dropped after a send blocked for over {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            }
+        }
+    }
+
+    private boolean addSender() {
+        synchronized (senders) {
+            if (replacementSenders >= maxStuckSenders) {
+                return false;
+            }
+            replacementSenders++;
+            // Maximum first, the core size may not exceed it. A larger core starts a thread for the queued drains
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() + 1);
+            senders.setCorePoolSize(senders.getCorePoolSize() + 1);
+            return true;
+        }
+    }
+
+    private void removeSender() {
+        synchronized (senders) {
+            replacementSenders--;
+            senders.setCorePoolSize(senders.getCorePoolSize() - 1);
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() - 1);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timers.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Long teamId;
+        private final Long divisionId;
+        private final UUID matchUuid;
+        // Guarded by itself, as are scheduled and the sending state
+        private final ArrayDeque<Set<DataWithMediaType>> buffer = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean sending;
+        private long sendingSince;
+        private boolean stuck;
+        // A sender thread was added in place of the one blocked sending to this subscriber
+        private boolean replaced;
+
+        private Subscriber(SseEmitter emitter, Long teamId, Long divisionId, UUID matchUuid) {
+            this.emitter = emitter;
+            this.teamId = teamId;
+            this.divisionId = divisionId;
+            this.matchUuid = matchUuid;
+        }
+
+        private boolean matches(MatchScoreChangedEvent event) {
+            return (teamId == null || teamId.equals(event.getHomeTeamId()) || teamId.equals(event.getAwayTeamId()))
+                    && (divisionId == null || divisionId.equals(event.getHomeDivisionId())
+                        || divisionId.equals(event.getAwayDivisionId()))
+                    && (matchUuid == null || matchUuid.equals(event.getMatchUuid()));
+        }
+
+        private void offer(Set<DataWithMediaType> frame) {
+            synchronized (buffer) {
+                if (buffer.size() == bufferSize) {
+                    buffer.pollFirst();
+                }
+                buffer.addLast(frame);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            try {
+                senders.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscribers.remove(this);
+            }
+        }
+
+        private void offerIfIdle(Set<DataWithMediaType> frame) {
+            synchronized (buffer) {
+                if (scheduled) {
+                    return;
+                }
+            }
+            offer(frame);
+        }
+
+        // Drains the buffer, one sender at a time per subscriber so events stay in order
+        @Override
+        public void run() {
+            while (true) {
+                Set<DataWithMediaType> frame;
+                synchronized (buffer) {
+                    frame = buffer.pollFirst();
+                    if (frame == null) {
+                        scheduled = false;
+                        return;
+                    }
+                    sending = true;
+                    sendingSince = System.nanoTime();
+                }
+                boolean failed = false;
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    failed = true;
+                }
+                boolean wasStuck;
+                boolean wasReplaced;
+                synchronized (buffer) {
+                    sending = false;
+                    wasStuck = stuck;
+                    wasReplaced = replaced;
+                }
+                if (wasStuck) {
+                    stuckSubscribers.decrementAndGet();
+                    if (wasReplaced) {
+                        removeSender();
+                    }
+                    if (!failed) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                if (failed) {
+                    // Gone or already completed, the scheduled flag stays set so nothing is queued for it again
+                    subscribers.remove(this);
+                    return;
+                }
+            }
+        }
+
+        // Marks the subscriber stuck when its current send has run past the send timeout. Its buffer is
+        // dropped and the scheduled flag stays set, so nothing is sent to it again
+        private boolean dropIfStuck(long now) {
+            synchronized (buffer) {
+                if (!sending || stuck || now - sendingSince < sendTimeoutNanos) {
+                    return false;
+                }
+                stuck = true;
+                buffer.clear();
+                stuckSubscribers.incrementAndGet();
+                replaced = addSender();
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.response.MatchImportErrorDTO;
+import com.example.matchescrud.dto.response.MatchImportFailureDTO;
+import com.example.matchescrud.dto.response.MatchImportResultDTO;
+import com.example.matchescrud.event.TeamDataChangedEvent;
+import com.example.matchescrud.exceptions.ApiException;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Stadium;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.repository.TeamRepository;
+import com.example.matchescrud.service.interfaces.IMatchImportService;
+import com.example.matchescrud.service.interfaces.IStandingsService;
+import com.example.matchescrud.util.CsvLine;
+import com.example.matchescrud.util.UuidV7;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Function;
+
+// Bulk match import. The file is read line by line and each row is validated on its own, with the
+// same rules as creating a single match, so a bad row is reported and skipped without stopping the
+// import. Teams and their stadiums are resolved from maps loaded once up front. Valid rows are
+// inserted in chunks, one transaction per chunk, through Hibernate's JDBC batching. A chunk that
+// fails to insert stops the import and is reported, the chunks before it stay committed. Standings
+// and cached statistics are rebuilt once at the end instead of per match, also when the import stops.
+@Service
+public class MatchImportServiceImp implements IMatchImportService {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchImportServiceImp.class);
+
+    private final TeamRepository teamRepository;
+    private final IStandingsService standingsService;
+    private final StatisticsCache statisticsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int chunkSize;
+
+    public MatchImportServiceImp(TeamRepository teamRepository, IStandingsService standingsService,
+                                 StatisticsCache statisticsCache, ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper, EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize,
+                                 @Value("${match.import.chunk-size:5000}") int chunkSize) {
+        this.teamRepository = teamRepository;
+        this.standingsService = standingsService;
+        this.statisticsCache = statisticsCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public MatchImportResultDTO importMatches(InputStream input, Format format) throws ApiException, IOException {
+        Map<Long, TeamReference> teamsById = new HashMap<>();
+        Map<String, TeamReference> teamsByName = new HashMap<>();
+        for (Object[] row : teamRepository.findImportReferences()) {
+            TeamReference team = new TeamReference((Long) row[0], (Long) row[2], (Integer) row[3]);
+            teamsById.put(team.id, team);
+            if (row[1] != null) {
+                teamsByName.put((String) row[1], team);
+            }
+        }
+
+        int imported = 0;
+        int rejected = 0;
+        List<MatchImportErrorDTO> errors = new ArrayList<>();
+        MatchImportFailureDTO failedChunk = null;
+        List<Match> chunk = new ArrayList<>(chunkSize);
+        Map<String, Integer> columns = null;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        long chunkFromLine = 0;
+        String line;
+        try {
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && columns == null) {
+                    columns = readHeader(line);
+                    continue;
+                }
+                try {
+                    Function<String, String> field = format == Format.CSV ? csvFields(columns, line) : jsonFields(line);
+                    Match match = toMatch(field, teamsById, teamsByName);
+                    if (chunk.isEmpty()) {
+                        chunkFromLine = lineNumber;
+                    }
+                    chunk.add(match);
+                } catch (InvalidRowException e) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new MatchImportErrorDTO(lineNumber, e.getMessage()));
+                    }
+                }
+                if (chunk.size() == chunkSize) {
+                    imported += insert(chunk, chunkFromLine, lineNumber);
+                }
+            }
+            imported += insert(chunk, chunkFromLine, lineNumber);
+        } catch (ChunkFailedException e) {
+            failedChunk = e.failure;
+            logger.error("Import stopped, the matches of lines {} to {} were not inserted",
+                    failedChunk.getFromLine(), failedChunk.getToLine(), e.getCause());
+        } finally {
+            // Chunks already committed are in the matches table whatever happened to the later ones
+            if (imported > 0) {
+                standingsService.rebuildStandings();
+                statisticsCache.invalidateAll();
+                eventPublisher.publishEvent(TeamDataChangedEvent.allTeams());
+            }
+        }
+        logger.info("Imported {} matches, rejected {}", imported, rejected);
+        return new MatchImportResultDTO(imported, rejected, errors, failedChunk);
+    }
+
+    // A failed chunk is rolled back as a whole and reported with the lines it came from
+    private int insert(List<Match> chunk, long fromLine, long toLine) throws ChunkFailedException {
+        int size = chunk.size();
+        if (size == 0) {
+            return 0;
+        }
+        try {
+            insertInTransaction(chunk);
+        } catch (RuntimeException e) {
+            throw new ChunkFailedException(new MatchImportFailureDTO(fromLine, toLine, size,
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage()), e);
+        }
+        chunk.clear();
+        return size;
+    }
+
+    // Persisted in one transaction, flushed every batchSize matches so each flush is one JDBC
+    // batch and the persistence context never holds more than a batch
+    private void insertInTransaction(List<Match> chunk) {
+        int size = chunk.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Team> teams = new HashMap<>();
+            Map<Long, Stadium> stadiums = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Match match = chunk.get(i);
+                // Proxies standing in for the rows, nothing is loaded
+                match.setHomeTeam(teams.computeIfAbsent(match.getHomeTeam().getId(),
+                        id -> entityManager.getReference(Team.class, id)));
+                match.setAwayTeam(teams.computeIfAbsent(match.getAwayTeam().getId(),
+                        id -> entityManager.getReference(Team.class, id)));
+                if (match.getStadium() != null) {
+                    match.setStadium(stadiums.computeIfAbsent(match.getStadium().getId(),
+                            id -> entityManager.getReference(Stadium.class, id)));
+                }
+                entityManager.persist(match);
+                if ((i + 1) % batchSize == 0 || i == size - 1) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    teams.clear();
+                    stadiums.clear();
+                }
+            }
+        });
+    }
+
+    private Match toMatch(Function<String, String> field, Map<Long, TeamReference> teamsById,
+                          Map<String, TeamReference> teamsByName) throws InvalidRowException {
+        TeamReference homeTeam = team(field, "homeTeamId", "homeTeam", "Home team", teamsById, teamsByName);
+        TeamReference awayTeam = team(field, "awayTeamId", "awayTeam", "Away team", teamsById, teamsByName);
+
+        // Required, they are the keyset of the match pages
+        LocalDate date = parse(field, "date", LocalDate::parse);
+        if (date == null) {
+            throw new InvalidRowException("Date is required");
+        }
+        LocalTime time = parse(field, "time", LocalTime::parse);
+        if (time == null) {
+            throw new InvalidRowException("Time is required");
+        }
+        int homeGoals = count(field, "homeGoals");
+        int awayGoals = count(field, "awayGoals");
+        int spectators = count(field, "spectators");
+        BigDecimal ticketPrice = parse(field, "ticketPrice", BigDecimal::new);
+
+        // Played at the home team's stadium, as when creating a single match
+        if (homeTeam.stadiumId != null && spectators > homeTeam.stadiumCapacity) {
+            throw new InvalidRowException("Spectators " + spectators + " exceed the home stadium capacity of "
+                    + homeTeam.stadiumCapacity);
+        }
+        BigDecimal revenue = BigDecimal.ZERO;
+        if (spectators > 0 && ticketPrice != null && ticketPrice.compareTo(BigDecimal.ZERO) > 0) {
+            revenue = BigDecimal.valueOf(spectators).multiply(ticketPrice);
+        }
+
+        // Placeholders carrying the ids, replaced by references when the chunk is inserted
+        Team home = new Team();
+        home.setId(homeTeam.id);
+        Team away = new Team();
+        away.setId(awayTeam.id);
+        Stadium stadium = null;
+        if (homeTeam.stadiumId != null) {
+            stadium = new Stadium();
+            stadium.setId(homeTeam.stadiumId);
+        }
+        return new Match(UuidV7.next(), date, time, home, away, homeGoals, awayGoals, stadium, spectators, revenue);
+    }
+
+    private TeamReference team(Function<String, String> field, String idColumn, String nameColumn, String label,
+                               Map<Long, TeamReference> teamsById, Map<String, TeamReference> teamsByName)
+            throws InvalidRowException {
+        String id = field.apply(idColumn);
+        if (id != null) {
+            TeamReference team = teamsById.get(parse(field, idColumn, Long::valueOf));
+            if (team == null) {
+                throw new InvalidRowException(label + " with id " + id + " not found");
+            }
+            return team;
+        }
+        String name = field.apply(nameColumn);
+        if (name != null) {
+            TeamReference team = teamsByName.get(name);
+            if (team == null) {
+                throw new InvalidRowException(label + " '" + name + "' not found");
+            }
+            return team;
+        }
+        throw new InvalidRowException(label + " is required");
+    }
+
+    private static int count(Function<String, String> field, String column) throws InvalidRowException {
+        Integer value = parse(field, column, Integer::valueOf);
+        if (value == null) {
+            return 0;
+        }
+        if (value < 0) {
+            throw new InvalidRowException(column + " must not be negative");
+        }
+        return value;
+    }
+
+    private static <T> T parse(Function<String, String> field, String column, Function<String, T> parser)
+            throws InvalidRowException {
+        String value = field.apply(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new InvalidRowException("Invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static Map<String, Integer> readHeader(String line) throws ApiException {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = CsvLine.parse(line);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i), i);
+        }
+        if (!(columns.containsKey("homeTeamId") || columns.containsKey("homeTeam"))
+                || !(columns.containsKey("awayTeamId") || columns.containsKey("awayTeam"))) {
+            throw new ApiException("The CSV header must name the home and away team columns", HttpStatus.BAD_REQUEST);
+        }
+        return columns;
+    }
+
+    // Empty fields read as missing
+    private static Function<String, String> csvFields(Map<String, Integer> columns, String line)
+            throws InvalidRowException {
+        List<String> values;
+        try {
+            values = CsvLine.parse(line);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRowException(e.getMessage());
+        }
+        return column -> {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+                return null;
+            }
+            return values.get(index);
+        };
+    }
+
+    private Function<String, String> jsonFields(String line) throws InvalidRowException {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRowException("Invalid JSON");
+        }
+        if (!node.isObject()) {
+            throw new InvalidRowException("Expected a JSON object");
+        }
+        return column -> {
+            JsonNode value = node.get(column);
+            if (value == null || value.isNull() || value.asText().isEmpty()) {
+                return null;
+            }
+            return value.asText();
+        };
+    }
+
+    private static class TeamReference {
+        private final Long id;
+        private final Long stadiumId;
+        private final Integer stadiumCapacity;
+
+        private TeamReference(Long id, Long stadiumId, Integer stadiumCapacity) {
+            this.id = id;
+            this.stadiumId = stadiumId;
+            this.stadiumCapacity = stadiumCapacity;
+        }
+    }
+
+    private static class InvalidRowException extends Exception {
+        private InvalidRowException(String message) {
+            super(message);
+        }
+    }
+
+    private static class ChunkFailedException extends Exception {
+        private final MatchImportFailureDTO failure;
+
+        private ChunkFailedException(MatchImportFailureDTO failure, Throwable cause) {
+            super(failure.getMessage(), cause);
+            this.failure = failure;
+        }
+    }
+}
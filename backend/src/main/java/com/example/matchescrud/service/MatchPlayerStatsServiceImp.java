@@ -2,6 +2,7 @@ package com.example.matchescrud.service;
 
 import com.example.matchescrud.Mapper.MatchPlayerStatsMapper;
 import com.example.matchescrud.dto.MatchPlayerStatsDTO;
+import com.example.matchescrud.dto.request.PlayerStatsLineDTO;
 import com.example.matchescrud.exceptions.AlreadyExistException.PlayerStatsAlreadyExist;
 import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.exceptions.NotFoundExceptions.MatchNotFoundException;
@@ -13,12 +14,12 @@ import com.example.matchescrud.repository.MatchPlayerStatsRepository;
 import com.example.matchescrud.repository.MatchRepository;
 import com.example.matchescrud.repository.PlayerRepository;
 import com.example.matchescrud.service.interfaces.IMatchPlayerStatsService;
-import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MatchPlayerStatsServiceImp implements IMatchPlayerStatsService {
@@ -27,15 +28,18 @@ public class MatchPlayerStatsServiceImp implements IMatchPlayerStatsService {
     private final MatchRepository matchRepository;
     private final PlayerRepository playerRepository;
     private final MatchPlayerStatsMapper matchPlayerStatsMapper;
+    private final StatisticsCache statisticsCache;
 
     public MatchPlayerStatsServiceImp(MatchPlayerStatsRepository matchPlayerStatsRepository,
                                       MatchRepository matchRepository,
                                       PlayerRepository playerRepository,
-                                      MatchPlayerStatsMapper matchPlayerStatsMapper) {
+                                      MatchPlayerStatsMapper matchPlayerStatsMapper,
+                                      StatisticsCache statisticsCache) {
         this.matchPlayerStatsRepository = matchPlayerStatsRepository;
         this.matchRepository = matchRepository;
         this.playerRepository = playerRepository;
         this.matchPlayerStatsMapper = matchPlayerStatsMapper;
+        this.statisticsCache = statisticsCache;
     }
 
     @Override
@@ -74,6 +78,7 @@ public class MatchPlayerStatsServiceImp implements IMatchPlayerStatsService {
         stats.setSaves(statsDTO.getSaves());
 
         MatchPlayerStats savedStats = matchPlayerStatsRepository.save(stats);
+        statisticsCache.playerStatsChanged();
         return matchPlayerStatsMapper.matchPlayerStatsToDTO(savedStats);
     }
 
@@ -99,9 +104,51 @@ public class MatchPlayerStatsServiceImp implements IMatchPlayerStatsService {
         stats.setSaves(statsDTO.getSaves());
 
         MatchPlayerStats updatedStats = matchPlayerStatsRepository.save(stats);
+        statisticsCache.playerStatsChanged();
         return matchPlayerStatsMapper.matchPlayerStatsToDTO(updatedStats);
     }
 
+    @Override
+    @Transactional
+    public List<MatchPlayerStatsDTO> saveLineupStats(UUID matchUuid, List<PlayerStatsLineDTO> lines) throws ApiException {
+        if (lines == null || lines.isEmpty()) {
+            throw new ApiException("At least one player line is required", org.springframework.http.HttpStatus.BAD_REQUEST);
+        }
+        Set<Long> playerIds = new LinkedHashSet<>();
+        for (PlayerStatsLineDTO line : lines) {
+            if (line.getPlayerId() == null) {
+                throw new ApiException("Every line needs a playerId", org.springframework.http.HttpStatus.BAD_REQUEST);
+            }
+            if (!playerIds.add(line.getPlayerId())) {
+                throw new ApiException("Player " + line.getPlayerId() + " appears more than once", org.springframework.http.HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        // The match once and all players in one IN query, checked in memory
+        Match match = matchRepository.findById(matchUuid)
+                .orElseThrow(() -> new MatchNotFoundException(matchUuid));
+        Map<Long, Player> players = playerRepository.findAllById(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        Long homeTeamId = match.getHomeTeam().getId();
+        Long awayTeamId = match.getAwayTeam().getId();
+        for (Long playerId : playerIds) {
+            Player player = players.get(playerId);
+            if (player == null) {
+                throw new PlayerNotFoundException(playerId);
+            }
+            Long teamId = player.getTeam() == null ? null : player.getTeam().getId();
+            if (!homeTeamId.equals(teamId) && !awayTeamId.equals(teamId)) {
+                throw new ApiException("Player " + player.getName() + " does not belong to either team in this match", org.springframework.http.HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        // Players already recorded for the match but not in the lineup keep their stats
+        matchPlayerStatsRepository.upsertAll(matchUuid, lines);
+        statisticsCache.playerStatsChanged();
+        return matchPlayerStatsMapper.matchPlayerStatsListToDTOList(matchPlayerStatsRepository.findByMatchUuid(matchUuid));
+    }
+
     @Override
     @Transactional
     public void deletePlayerStats(UUID matchUuid, Long playerId) throws ApiException {
@@ -119,10 +166,11 @@ public class MatchPlayerStatsServiceImp implements IMatchPlayerStatsService {
 
         // Delete stats
         matchPlayerStatsRepository.delete(stats);
+        statisticsCache.playerStatsChanged();
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MatchPlayerStatsDTO> getMatchStats(UUID matchUuid) throws ApiException {
         // Validate match exists
         Match match = matchRepository.findById(matchUuid)
@@ -133,7 +181,7 @@ public class MatchPlayerStatsServiceImp implements IMatchPlayerStatsService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public MatchPlayerStatsDTO getPlayerStatsForMatch(UUID matchUuid, Long playerId) throws ApiException {
         // Validate match exists
         matchRepository.findById(matchUuid)
@@ -3,7 +3,10 @@ package com.example.matchescrud.service;
 import com.example.matchescrud.Mapper.MatchRequestMapper;
 import com.example.matchescrud.Mapper.MatchResponseDTOMapper;
 import com.example.matchescrud.dto.request.MatchRequestDTO;
+import com.example.matchescrud.dto.response.MatchPageDTO;
 import com.example.matchescrud.dto.response.MatchResponseDTO;
+import com.example.matchescrud.event.MatchScoreChangedEvent;
+import com.example.matchescrud.event.TeamDataChangedEvent;
 import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.exceptions.NotFoundExceptions.MatchNotFoundException;
 import com.example.matchescrud.exceptions.NotFoundExceptions.TeamNotFoundException;
@@ -13,62 +16,103 @@ import com.example.matchescrud.model.entity.Team;
 import com.example.matchescrud.repository.MatchRepository;
 import com.example.matchescrud.repository.TeamRepository;
 import com.example.matchescrud.service.interfaces.IMatchService;
-import jakarta.transaction.Transactional;
+import com.example.matchescrud.service.interfaces.IStandingsService;
+import com.example.matchescrud.util.MatchCursor;
+import com.example.matchescrud.util.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class MatchServiceImp implements IMatchService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     //Dependency injection
     MatchRepository matchRepository;
     TeamRepository teamRepository;
     MatchResponseDTOMapper matchResponseDTOMapper;
     MatchRequestMapper matchRequestMapper;
-    public MatchServiceImp(MatchRepository matchRepository, TeamRepository teamRepository, MatchRequestMapper matchRequestMapper, MatchResponseDTOMapper matchResponseDTOMapper){
+    IStandingsService standingsService;
+    StatisticsCache statisticsCache;
+    ApplicationEventPublisher eventPublisher;
+    ObjectMapper objectMapper;
+    public MatchServiceImp(MatchRepository matchRepository, TeamRepository teamRepository, MatchRequestMapper matchRequestMapper, MatchResponseDTOMapper matchResponseDTOMapper, IStandingsService standingsService, StatisticsCache statisticsCache, ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper){
         this.matchRepository = matchRepository;
         this.teamRepository = teamRepository;
         this.matchRequestMapper = matchRequestMapper;
         this.matchResponseDTOMapper = matchResponseDTOMapper;
+        this.standingsService = standingsService;
+        this.statisticsCache = statisticsCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<MatchResponseDTO> getAllMatches() {
-        // Use a custom query to eagerly fetch teams and stadium
-        List<Match> matches = matchRepository.findAll();
-        // Initialize lazy-loaded teams to avoid LazyInitializationException
-        matches.forEach(match -> {
-            if (match.getHomeTeam() != null) {
-                match.getHomeTeam().getId(); // Trigger lazy loading
-            }
-            if (match.getAwayTeam() != null) {
-                match.getAwayTeam().getId(); // Trigger lazy loading
-            }
-        });
-        return matchResponseDTOMapper.matchListToMatchResponseDTOList(matches);
+        // Projection query, only the columns of the response are read and no entities are managed
+        return matchRepository.findAllMatchResponses();
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public MatchResponseDTO getMatchByUUID(UUID uuid) throws ApiException {
-        Match match = matchRepository.findById(uuid).orElseThrow(() -> new MatchNotFoundException(uuid));
-        return matchResponseDTOMapper.matchToMatchResponseDTO(match);
+        return matchRepository.findMatchResponseByUuid(uuid).orElseThrow(() -> new MatchNotFoundException(uuid));
+    }
+
+    //GET one keyset page, ordered by date, time and uuid
+    @Transactional(readOnly = true)
+    @Override
+    public MatchPageDTO getMatchPage(String cursor, int size) throws ApiException {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        MatchCursor after = MatchCursor.decode(cursor);
+        List<MatchResponseDTO> matches = matchRepository.findMatchResponsesWithFilters(
+                null, null, null, null, null,
+                after != null ? after.getDate() : null,
+                after != null ? after.getTime() : null,
+                after != null ? after.getUuid() : null,
+                PageRequest.of(0, pageSize + 1));
+        return matchResponseDTOMapper.matchResponseListToMatchPageDTO(matches, pageSize);
+    }
+
+    //GET every match as newline-delimited JSON without materializing the whole table
+    @Transactional(readOnly = true)
+    @Override
+    public void streamAllMatches(OutputStream outputStream) throws IOException {
+        // Rows are projected to DTOs, so the persistence context does not grow with the result set
+        try (Stream<MatchResponseDTO> matches = matchRepository.streamAllMatchResponses()) {
+            for (MatchResponseDTO match : (Iterable<MatchResponseDTO>) matches::iterator) {
+                outputStream.write(objectMapper.writeValueAsBytes(match));
+                outputStream.write('\n');
+            }
+        }
+        outputStream.flush();
     }
 
     //DELETE
-    @Transactional
+    // Rolls back on ApiException too, it is checked and would otherwise commit the writes made before it
+    @Transactional(rollbackFor = ApiException.class)
     @Override
     public MatchResponseDTO deleteMatch(UUID id) throws ApiException {
         Optional<Match> match = matchRepository.findById(id);
         if (match.isPresent()) {
+            standingsService.revertResult(match.get());
+            statisticsCache.matchChanged(match.get());
+            publishTeamsChanged(match.get());
             matchRepository.delete(match.get());
             return matchResponseDTOMapper.matchToMatchResponseDTO(match.get());
         }
@@ -76,7 +120,7 @@ public class MatchServiceImp implements IMatchService {
     }
 
     //POST
-    @Transactional
+    @Transactional(rollbackFor = ApiException.class)
     @Override
     public MatchResponseDTO createMatch(MatchRequestDTO matchRequestDTO) throws ApiException {
         // Map MatchRequestDTO to Match
@@ -89,6 +133,7 @@ public class MatchServiceImp implements IMatchService {
         if (match.getAwayTeam() == null || match.getAwayTeam().getId() == null) {
             throw new ApiException("Away team is required", HttpStatus.BAD_REQUEST);
         }
+        requireKickOff(matchRequestDTO);
 
         //Search matches by their ID on th DB
         Optional<Team> optionalHomeTeam = teamRepository.findById(match.getHomeTeam().getId());
@@ -97,8 +142,8 @@ public class MatchServiceImp implements IMatchService {
         Team homeTeam = optionalHomeTeam.orElseThrow(() -> new TeamNotFoundException(match.getHomeTeam().getId()));
         Team awayTeam = optionalAwayTeam.orElseThrow(() -> new TeamNotFoundException(match.getAwayTeam().getId()));
 
-        //Set Random UUID
-        match.setUuid(UUID.randomUUID());
+        //Set time-ordered UUID, new matches are appended to the primary key index
+        match.setUuid(UuidV7.next());
         //Set HomeTeam stadium as match stadium
         // Only validate capacity if spectators > 0 and stadium exists
         if (homeTeam.getStadium() != null && matchRequestDTO.getSpectators() > 0 && matchRequestDTO.getSpectators() > homeTeam.getStadium().getCapacity()) {
@@ -123,6 +168,10 @@ public class MatchServiceImp implements IMatchService {
 
 
         Match matchResponse = matchRepository.save(match);
+        standingsService.recordResult(matchResponse);
+        statisticsCache.matchChanged(matchResponse);
+        publishTeamsChanged(matchResponse);
+        eventPublisher.publishEvent(new MatchScoreChangedEvent(MatchScoreChangedEvent.Type.CREATED, matchResponse));
 
         //Add match to HomeTeam and AwayTeam match lists.
         addMatchToTeams(homeTeam, awayTeam, matchResponse);
@@ -131,22 +180,28 @@ public class MatchServiceImp implements IMatchService {
     }
 
     //PUT
-    @Transactional
+    @Transactional(rollbackFor = ApiException.class)
     @Override
     public MatchResponseDTO updateMatch(UUID uuid, MatchRequestDTO matchRequestDTO) throws ApiException {
         Match match = matchRepository.findById(uuid)
                 .orElseThrow(() -> new MatchNotFoundException(uuid));
 
+        requireKickOff(matchRequestDTO);
+        // Validate spectators against stadium capacity if changing and stadium exists, before anything is written
+        if (match.getStadium() != null && matchRequestDTO.getSpectators() > match.getStadium().getCapacity()) {
+            throw new StadiumSizeException(matchRequestDTO.getSpectators(), match.getStadium());
+        }
+
+        // Take the previous score out of the standings before it is overwritten
+        standingsService.revertResult(match);
+        boolean scoreChanged = match.getHomeGoals() != matchRequestDTO.getHomeGoals()
+                || match.getAwayGoals() != matchRequestDTO.getAwayGoals();
+
         // Update fields
         match.setDate(matchRequestDTO.getDate());
         match.setTime(matchRequestDTO.getTime());
         match.setHomeGoals(matchRequestDTO.getHomeGoals());
         match.setAwayGoals(matchRequestDTO.getAwayGoals());
-        
-        // Validate spectators against stadium capacity if changing and stadium exists
-        if (match.getStadium() != null && matchRequestDTO.getSpectators() > match.getStadium().getCapacity()) {
-            throw new StadiumSizeException(matchRequestDTO.getSpectators(), match.getStadium());
-        }
         match.setSpectators(matchRequestDTO.getSpectators());
         
         // Recalculate revenue if ticket price is provided
@@ -156,9 +211,31 @@ public class MatchServiceImp implements IMatchService {
         }
 
         Match updatedMatch = matchRepository.save(match);
+        standingsService.recordResult(updatedMatch);
+        statisticsCache.matchChanged(updatedMatch);
+        publishTeamsChanged(updatedMatch);
+        if (scoreChanged) {
+            eventPublisher.publishEvent(new MatchScoreChangedEvent(MatchScoreChangedEvent.Type.UPDATED, updatedMatch));
+        }
         return matchResponseDTOMapper.matchToMatchResponseDTO(updatedMatch);
     }
 
+    // Date and time are the keyset of the match pages, a match without them could not be paged past
+    private static void requireKickOff(MatchRequestDTO matchRequestDTO) throws ApiException {
+        if (matchRequestDTO.getDate() == null) {
+            throw new ApiException("Date is required", HttpStatus.BAD_REQUEST);
+        }
+        if (matchRequestDTO.getTime() == null) {
+            throw new ApiException("Time is required", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private void publishTeamsChanged(Match match) {
+        eventPublisher.publishEvent(new TeamDataChangedEvent(
+                match.getHomeTeam() != null ? match.getHomeTeam().getId() : null,
+                match.getAwayTeam() != null ? match.getAwayTeam().getId() : null));
+    }
+
     public void addMatchToTeams(Team homeTeam, Team awayTeam, Match match){
         homeTeam.getHomeMatches().add(match);
         awayTeam.getAwayMatches().add(match);
@@ -4,6 +4,7 @@ import com.example.matchescrud.Mapper.PlayerMapper;
 import com.example.matchescrud.Mapper.TeamMapper;
 import com.example.matchescrud.dto.PlayerDTO;
 import com.example.matchescrud.dto.PlayerHistoryDTO;
+import com.example.matchescrud.event.TeamDataChangedEvent;
 import com.example.matchescrud.exceptions.AlreadyExistException.PlayerAlreadyExist;
 import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.exceptions.NotFoundExceptions.PlayerNotFoundException;
@@ -13,8 +14,9 @@ import com.example.matchescrud.repository.MatchPlayerStatsRepository;
 import com.example.matchescrud.repository.PlayerRepository;
 import com.example.matchescrud.repository.TeamRepository;
 import com.example.matchescrud.service.interfaces.IPlayerService;
-import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,19 +30,26 @@ public class PlayerServiceImp implements IPlayerService {
     private final MatchPlayerStatsRepository matchPlayerStatsRepository;
     private final PlayerMapper playerMapper;
     private final TeamMapper teamMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndex searchIndex;
+    private final StatisticsCache statisticsCache;
 
     public PlayerServiceImp(PlayerRepository playerRepository, TeamRepository teamRepository,
                            MatchPlayerStatsRepository matchPlayerStatsRepository, PlayerMapper playerMapper,
-                           TeamMapper teamMapper) {
+                           TeamMapper teamMapper, ApplicationEventPublisher eventPublisher,
+                           SearchIndex searchIndex, StatisticsCache statisticsCache) {
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
         this.matchPlayerStatsRepository = matchPlayerStatsRepository;
         this.playerMapper = playerMapper;
         this.teamMapper = teamMapper;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.statisticsCache = statisticsCache;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PlayerDTO getPlayerById(Long id) throws ApiException {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new PlayerNotFoundException(id));
@@ -48,7 +57,7 @@ public class PlayerServiceImp implements IPlayerService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PlayerDTO> getPlayersByTeamId(Long teamId) throws ApiException {
         // Verify team exists
         teamRepository.findById(teamId)
@@ -95,6 +104,8 @@ public class PlayerServiceImp implements IPlayerService {
         player.setTeam(team);
         
         Player savedPlayer = playerRepository.save(player);
+        searchIndex.playerSaved(savedPlayer);
+        eventPublisher.publishEvent(new TeamDataChangedEvent(team.getId()));
         return playerMapper.playerToPlayerDTO(savedPlayer);
     }
 
@@ -117,6 +128,8 @@ public class PlayerServiceImp implements IPlayerService {
         existingPlayer.setJerseyNumber(playerDTO.getJerseyNumber());
         
         Player updatedPlayer = playerRepository.save(existingPlayer);
+        searchIndex.playerSaved(updatedPlayer);
+        statisticsCache.playerChanged();
         return playerMapper.playerToPlayerDTO(updatedPlayer);
     }
 
@@ -126,10 +139,13 @@ public class PlayerServiceImp implements IPlayerService {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new PlayerNotFoundException(id));
         playerRepository.delete(player);
+        searchIndex.playerDeleted(id);
+        statisticsCache.playerChanged();
+        eventPublisher.publishEvent(new TeamDataChangedEvent(player.getTeam() != null ? player.getTeam().getId() : null));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PlayerHistoryDTO> getPlayerHistory(Long playerId) throws ApiException {
         // Fetch player with team eagerly loaded
         Player player = playerRepository.findById(playerId)
@@ -0,0 +1,256 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.Mapper.PlayerMapper;
+import com.example.matchescrud.Mapper.StadiumMapper;
+import com.example.matchescrud.Mapper.TeamMapper;
+import com.example.matchescrud.dto.PlayerDTO;
+import com.example.matchescrud.dto.StadiumDTO;
+import com.example.matchescrud.dto.SuggestionDTO;
+import com.example.matchescrud.dto.TeamDTO;
+import com.example.matchescrud.model.entity.City;
+import com.example.matchescrud.model.entity.Division;
+import com.example.matchescrud.model.entity.Player;
+import com.example.matchescrud.model.entity.Stadium;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.repository.CityRepository;
+import com.example.matchescrud.repository.PlayerRepository;
+import com.example.matchescrud.repository.StadiumRepository;
+import com.example.matchescrud.repository.TeamRepository;
+import com.example.matchescrud.util.BkTree;
+import com.example.matchescrud.util.PrefixIndex;
+import com.example.matchescrud.util.TrigramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// In-memory indexes behind the search endpoints, so a search never reaches the database: trigram
+// indexes for the team, player and stadium search, a BK-tree of player names for the fuzzy player search
+// and a prefix index of team, player, stadium and city names for the suggestions. Loaded once at startup and kept current by the write paths.
+@Component
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final StadiumRepository stadiumRepository;
+    private final CityRepository cityRepository;
+    private final TeamMapper teamMapper;
+    private final PlayerMapper playerMapper;
+    private final StadiumMapper stadiumMapper;
+
+    // Teams by name and username, players by name and position, stadiums by name
+    private final TrigramIndex<Long, TeamDTO> teams = new TrigramIndex<>();
+    private final TrigramIndex<Long, PlayerDTO> players = new TrigramIndex<>();
+    private final TrigramIndex<Long, StadiumDTO> stadiums = new TrigramIndex<>();
+    private final BkTree<Long> playerNames = new BkTree<>();
+    // Every name, keyed by type and id
+    private final PrefixIndex<List<Object>, SuggestionDTO> suggestions = new PrefixIndex<>();
+
+    public SearchIndex(TeamRepository teamRepository, PlayerRepository playerRepository,
+                       StadiumRepository stadiumRepository, CityRepository cityRepository,
+                       TeamMapper teamMapper, PlayerMapper playerMapper, StadiumMapper stadiumMapper) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.stadiumRepository = stadiumRepository;
+        this.cityRepository = cityRepository;
+        this.teamMapper = teamMapper;
+        this.playerMapper = playerMapper;
+        this.stadiumMapper = stadiumMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        teams.clear();
+        players.clear();
+        playerNames.clear();
+        stadiums.clear();
+        suggestions.clear();
+        List<Team> allTeams = teamRepository.findAll();
+        allTeams.forEach(team -> putTeam(team, teamMapper.teamToTeamDTO(team)));
+        List<Player> allPlayers = playerRepository.findAll();
+        allPlayers.forEach(player -> putPlayer(player, playerMapper.playerToPlayerDTO(player)));
+        stadiumRepository.findAll().forEach(this::putStadium);
+        cityRepository.findAll().forEach(this::putCity);
+        logger.info("Indexed {} teams, {} players and {} names for search", allTeams.size(), allPlayers.size(),
+                suggestions.size());
+    }
+
+    public List<TeamDTO> searchTeams(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return teams.values();
+        }
+        return teams.search(query);
+    }
+
+    public List<PlayerDTO> searchPlayers(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return players.values();
+        }
+        return players.search(query);
+    }
+
+    public List<StadiumDTO> searchStadiums(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return stadiums.values();
+        }
+        return stadiums.search(query);
+    }
+
+    public List<PlayerDTO> fuzzySearchPlayers(String query, int maxDistance) {
+        List<PlayerDTO> result = new ArrayList<>();
+        for (Long playerId : playerNames.search(query, maxDistance)) {
+            PlayerDTO player = players.get(playerId);
+            if (player != null) {
+                result.add(player);
+            }
+        }
+        return result;
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return suggestions.search(prefix, limit);
+    }
+
+    // Players embed their team, so they are indexed again with it
+    public void teamSaved(Team team) {
+        afterCommit(teamsUpdate(List.of(team)));
+    }
+
+    // Called before the delete, the team's players are removed with it
+    public void teamDeleted(Long teamId) {
+        List<Long> playerIds = new ArrayList<>();
+        playerRepository.findByTeamId(teamId).forEach(player -> playerIds.add(player.getId()));
+        afterCommit(() -> {
+            teams.remove(teamId);
+            suggestions.remove(key(SuggestionDTO.TEAM, teamId));
+            playerIds.forEach(playerId -> {
+                players.remove(playerId);
+                playerNames.remove(playerId);
+                suggestions.remove(key(SuggestionDTO.PLAYER, playerId));
+            });
+        });
+    }
+
+    public void playerSaved(Player player) {
+        PlayerDTO playerDTO = playerMapper.playerToPlayerDTO(player);
+        afterCommit(() -> putPlayer(player, playerDTO));
+    }
+
+    public void playerDeleted(Long playerId) {
+        afterCommit(() -> {
+            players.remove(playerId);
+            playerNames.remove(playerId);
+            suggestions.remove(key(SuggestionDTO.PLAYER, playerId));
+        });
+    }
+
+    // Teams embed their stadium, city and division, so the teams of a saved one are indexed again.
+    // Deleting one a team still points at fails on the foreign key, so deletes leave no team stale
+    public void stadiumSaved(Stadium stadium) {
+        Runnable teamsUpdate = teamsUpdate(stadium.getId() != null ? teamRepository.findByStadiumId(stadium.getId()) : List.of());
+        afterCommit(() -> {
+            putStadium(stadium);
+            teamsUpdate.run();
+        });
+    }
+
+    public void stadiumDeleted(Long stadiumId) {
+        afterCommit(() -> {
+            stadiums.remove(stadiumId);
+            suggestions.remove(key(SuggestionDTO.STADIUM, stadiumId));
+        });
+    }
+
+    public void citySaved(City city) {
+        Runnable teamsUpdate = teamsUpdate(city.getId() != null ? teamRepository.findByCityId(city.getId()) : List.of());
+        afterCommit(() -> {
+            putCity(city);
+            teamsUpdate.run();
+        });
+    }
+
+    public void cityDeleted(Long cityId) {
+        afterCommit(() -> suggestions.remove(key(SuggestionDTO.CITY, cityId)));
+    }
+
+    // Divisions have no entry of their own, only the teams embedding them
+    public void divisionSaved(Division division) {
+        afterCommit(teamsUpdate(division.getId() != null ? teamRepository.findByDivisionId(division.getId()) : List.of()));
+    }
+
+    // Maps the teams and all their players now and returns the update that indexes them
+    private Runnable teamsUpdate(List<Team> changedTeams) {
+        List<TeamDTO> teamDTOs = new ArrayList<>();
+        List<Long> teamIds = new ArrayList<>();
+        for (Team team : changedTeams) {
+            teamDTOs.add(teamMapper.teamToTeamDTO(team));
+            if (team.getId() != null) {
+                teamIds.add(team.getId());
+            }
+        }
+        List<Player> teamPlayers = teamIds.isEmpty() ? List.of() : playerRepository.findByTeamIdIn(teamIds);
+        List<PlayerDTO> playerDTOs = playerMapper.playerListToPlayerDTOList(teamPlayers);
+        return () -> {
+            for (int i = 0; i < changedTeams.size(); i++) {
+                putTeam(changedTeams.get(i), teamDTOs.get(i));
+            }
+            for (int i = 0; i < teamPlayers.size(); i++) {
+                putPlayer(teamPlayers.get(i), playerDTOs.get(i));
+            }
+        };
+    }
+
+    private void putTeam(Team team, TeamDTO teamDTO) {
+        teams.put(team.getId(), teamDTO, team.getName(), team.getUsername());
+        putSuggestion(SuggestionDTO.TEAM, team.getId(), team.getName());
+    }
+
+    private void putPlayer(Player player, PlayerDTO playerDTO) {
+        players.put(player.getId(), playerDTO, player.getName(), player.getPosition());
+        playerNames.put(player.getId(), player.getName());
+        putSuggestion(SuggestionDTO.PLAYER, player.getId(), player.getName());
+    }
+
+    private void putStadium(Stadium stadium) {
+        stadiums.put(stadium.getId(), stadiumMapper.stadiumToStadiumDTO(stadium), stadium.getName());
+        putSuggestion(SuggestionDTO.STADIUM, stadium.getId(), stadium.getName());
+    }
+
+    private void putCity(City city) {
+        putSuggestion(SuggestionDTO.CITY, city.getId(), city.getName());
+    }
+
+    private void putSuggestion(String type, Long id, String name) {
+        suggestions.put(key(type, id), new SuggestionDTO(type, id, name), name);
+    }
+
+    private static List<Object> key(String type, Long id) {
+        return Arrays.asList(type, id);
+    }
+
+    // DTOs are mapped inside the transaction, while lazy associations can still load, and only
+    // published once it commits so a rolled back write never shows up in search
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
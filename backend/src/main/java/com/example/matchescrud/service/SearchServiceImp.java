@@ -1,74 +1,241 @@
 package com.example.matchescrud.service;
 
 import com.example.matchescrud.Mapper.PlayerMapper;
-import com.example.matchescrud.Mapper.TeamMapper;
 import com.example.matchescrud.Mapper.MatchResponseDTOMapper;
 import com.example.matchescrud.dto.PlayerDTO;
+import com.example.matchescrud.dto.SuggestionDTO;
 import com.example.matchescrud.dto.TeamDTO;
+import com.example.matchescrud.dto.response.GlobalSearchDTO;
+import com.example.matchescrud.dto.response.MatchPageDTO;
 import com.example.matchescrud.dto.response.MatchResponseDTO;
-import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.dto.response.SearchHitDTO;
+import com.example.matchescrud.exceptions.ApiException;
 import com.example.matchescrud.model.entity.Player;
-import com.example.matchescrud.model.entity.Team;
 import com.example.matchescrud.repository.MatchRepository;
 import com.example.matchescrud.repository.PlayerRepository;
-import com.example.matchescrud.repository.TeamRepository;
 import com.example.matchescrud.service.interfaces.ISearchService;
+import com.example.matchescrud.util.MatchCursor;
+import com.example.matchescrud.util.TextFolding;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 @Service
 public class SearchServiceImp implements ISearchService {
 
-    private final TeamRepository teamRepository;
+    private static final Logger logger = LoggerFactory.getLogger(SearchServiceImp.class);
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SUGGESTIONS = 50;
+    // Beyond two edits short names start matching almost anything
+    private static final int MAX_FUZZY_DISTANCE = 2;
+    private static final int MAX_HITS_PER_TYPE = 20;
+    // Opponents looked up when searching matches, a broad query would otherwise match every team
+    private static final int MAX_MATCH_TEAMS = 50;
+    private static final List<String> HIT_TYPES = List.of(SearchHitDTO.TEAM, SearchHitDTO.PLAYER,
+            SearchHitDTO.MATCH, SearchHitDTO.STADIUM);
+
     private final PlayerRepository playerRepository;
     private final MatchRepository matchRepository;
-    private final TeamMapper teamMapper;
     private final PlayerMapper playerMapper;
     private final MatchResponseDTOMapper matchResponseDTOMapper;
+    private final SearchIndex searchIndex;
+    // Runs the sub-searches of the unified search, the match search holds a pooled connection
+    private final ThreadPoolExecutor globalSearchExecutor;
+    private final long globalSearchBudgetMillis;
+    // The sub-searches run on the executor's threads, outside the caller's transaction
+    private final TransactionTemplate readOnlyTransaction;
 
-    public SearchServiceImp(TeamRepository teamRepository, PlayerRepository playerRepository,
-                           MatchRepository matchRepository, TeamMapper teamMapper,
-                           PlayerMapper playerMapper, MatchResponseDTOMapper matchResponseDTOMapper) {
-        this.teamRepository = teamRepository;
+    public SearchServiceImp(PlayerRepository playerRepository, MatchRepository matchRepository,
+                           PlayerMapper playerMapper, MatchResponseDTOMapper matchResponseDTOMapper,
+                           SearchIndex searchIndex, PlatformTransactionManager transactionManager,
+                           @Value("${search.global.parallelism:8}") int parallelism,
+                           @Value("${search.global.budget-millis:300}") long budgetMillis) {
         this.playerRepository = playerRepository;
         this.matchRepository = matchRepository;
-        this.teamMapper = teamMapper;
         this.playerMapper = playerMapper;
         this.matchResponseDTOMapper = matchResponseDTOMapper;
+        this.searchIndex = searchIndex;
+        // A full queue rejects the sub-search, it is then reported as timed out
+        this.globalSearchExecutor = new ThreadPoolExecutor(parallelism, parallelism, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism * 16), new CustomizableThreadFactory("global-search-"));
+        this.globalSearchExecutor.allowCoreThreadTimeOut(true);
+        this.globalSearchBudgetMillis = budgetMillis;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TeamDTO> searchTeams(String query) {
-        List<Team> teams = teamRepository.findAll();
-        if (query == null || query.trim().isEmpty()) {
-            return teamMapper.teamListToTeamDTOList(teams);
-        }
-        String lowerQuery = query.toLowerCase();
-        return teams.stream()
-                .filter(team -> (team.getName() != null && team.getName().toLowerCase().contains(lowerQuery)) ||
-                               (team.getUsername() != null && team.getUsername().toLowerCase().contains(lowerQuery)))
-                .map(teamMapper::teamToTeamDTO)
-                .collect(Collectors.toList());
+        return searchIndex.searchTeams(query);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PlayerDTO> searchPlayers(String query) {
-        List<Player> players = playerRepository.findAll();
-        if (query == null || query.trim().isEmpty()) {
-            return playerMapper.playerListToPlayerDTOList(players);
+        return searchIndex.searchPlayers(query);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlayerDTO> fuzzySearchPlayers(String query, Integer maxDistance) {
+        String folded = TextFolding.fold(query);
+        if (folded.isEmpty()) {
+            return searchIndex.searchPlayers(query);
         }
-        String lowerQuery = query.toLowerCase();
-        return players.stream()
-                .filter(player -> (player.getName() != null && player.getName().toLowerCase().contains(lowerQuery)) ||
-                                 (player.getPosition() != null && player.getPosition().toLowerCase().contains(lowerQuery)))
-                .map(playerMapper::playerToPlayerDTO)
+        // One edit for short queries, two for longer ones unless the caller asks for less
+        int distance = maxDistance != null ? maxDistance : (folded.length() <= 4 ? 1 : 2);
+        return searchIndex.fuzzySearchPlayers(folded, Math.max(0, Math.min(distance, MAX_FUZZY_DISTANCE)));
+    }
+
+    @Override
+    public GlobalSearchDTO search(String query, int limitPerType) {
+        String folded = TextFolding.fold(query);
+        if (folded.isEmpty()) {
+            return new GlobalSearchDTO(new ArrayList<>(), new ArrayList<>());
+        }
+        int limit = Math.min(Math.max(limitPerType, 1), MAX_HITS_PER_TYPE);
+
+        // Every type is searched concurrently, the response waits at most for the budget
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(globalSearchBudgetMillis);
+        Map<String, Future<List<SearchHitDTO>>> searches = new LinkedHashMap<>();
+        Map<String, Callable<List<SearchHitDTO>>> tasks = Map.of(
+                SearchHitDTO.TEAM, () -> teamHits(query, folded, limit),
+                SearchHitDTO.PLAYER, () -> playerHits(query, folded, limit),
+                SearchHitDTO.MATCH, () -> readOnlyTransaction.execute(status -> matchHits(query, folded, limit)),
+                SearchHitDTO.STADIUM, () -> stadiumHits(query, folded, limit));
+        for (String type : HIT_TYPES) {
+            try {
+                searches.put(type, globalSearchExecutor.submit(tasks.get(type)));
+            } catch (RejectedExecutionException e) {
+                searches.put(type, null);
+            }
+        }
+
+        List<SearchHitDTO> hits = new ArrayList<>();
+        List<String> timedOut = new ArrayList<>();
+        searches.forEach((type, search) -> {
+            if (search == null) {
+                timedOut.add(type);
+                return;
+            }
+            try {
+                hits.addAll(search.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                search.cancel(true);
+                timedOut.add(type);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                search.cancel(true);
+                timedOut.add(type);
+            } catch (ExecutionException e) {
+                // A failing type must not fail the whole search
+                logger.warn("Search for {} hits failed", type, e.getCause());
+                timedOut.add(type);
+            }
+        });
+
+        // Stable sort, equal scores keep each type's own order (latest matches first)
+        hits.sort(Comparator.comparingDouble(SearchHitDTO::getScore).reversed()
+                .thenComparingInt(hit -> HIT_TYPES.indexOf(hit.getType())));
+        return new GlobalSearchDTO(hits, timedOut);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        return searchIndex.suggest(query, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        globalSearchExecutor.shutdownNow();
+    }
+
+    private List<SearchHitDTO> teamHits(String query, String folded, int limit) {
+        return searchIndex.searchTeams(query).stream()
+                .map(team -> new SearchHitDTO(SearchHitDTO.TEAM, String.valueOf(team.getId()), team.getName(),
+                        team.getDivision() != null ? team.getDivision().getName() : null,
+                        relevance(folded, team.getName())))
+                .sorted(Comparator.comparingDouble(SearchHitDTO::getScore).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private List<SearchHitDTO> playerHits(String query, String folded, int limit) {
+        return searchIndex.searchPlayers(query).stream()
+                .map(player -> new SearchHitDTO(SearchHitDTO.PLAYER, String.valueOf(player.getId()), player.getName(),
+                        player.getTeam() != null ? player.getTeam().getName() + " - " + player.getPosition() : player.getPosition(),
+                        relevance(folded, player.getName())))
+                .sorted(Comparator.comparingDouble(SearchHitDTO::getScore).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // Matches against any team whose name contains the query, scored by the better matching side
+    private List<SearchHitDTO> matchHits(String query, String folded, int limit) {
+        List<Long> teamIds = searchIndex.searchTeams(query).stream()
+                .limit(MAX_MATCH_TEAMS)
+                .map(TeamDTO::getId)
+                .collect(Collectors.toList());
+        if (teamIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return matchRepository.findLatestMatchResponsesByTeamIds(teamIds, PageRequest.of(0, limit)).stream()
+                .map(match -> {
+                    String home = match.getHomeTeam() != null ? match.getHomeTeam().getName() : null;
+                    String away = match.getAwayTeam() != null ? match.getAwayTeam().getName() : null;
+                    // A match is a weaker hit than the team it was found through
+                    double score = Math.round(90 * Math.max(relevance(folded, home), relevance(folded, away))) / 100.0;
+                    return new SearchHitDTO(SearchHitDTO.MATCH, String.valueOf(match.getUuid()), home + " vs " + away,
+                            String.valueOf(match.getDate()), score);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private List<SearchHitDTO> stadiumHits(String query, String folded, int limit) {
+        return searchIndex.searchStadiums(query).stream()
+                .map(stadium -> new SearchHitDTO(SearchHitDTO.STADIUM, String.valueOf(stadium.getId()), stadium.getName(),
+                        "Capacity " + stadium.getCapacity(), relevance(folded, stadium.getName())))
+                .sorted(Comparator.comparingDouble(SearchHitDTO::getScore).reversed())
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
+    // How closely the name matches the folded query: the whole name, its start, the start of
+    // one of its words, anywhere in it, or only through another field such as the position
+    private static double relevance(String folded, String name) {
+        String text = TextFolding.fold(name);
+        if (text.equals(folded)) {
+            return 1.0;
+        }
+        if (text.startsWith(folded)) {
+            return 0.8;
+        }
+        if (text.contains(" " + folded)) {
+            return 0.6;
+        }
+        if (text.contains(folded)) {
+            return 0.4;
+        }
+        return 0.2;
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<PlayerDTO> filterPlayers(Long teamId, String position, Integer minJersey, Integer maxJersey) {
         List<Player> players = playerRepository.findAll();
         
@@ -94,36 +261,19 @@ public class SearchServiceImp implements ISearchService {
     }
 
     @Override
-    public List<MatchResponseDTO> filterMatches(Long divisionId, Long stadiumId, Long teamId, LocalDate startDate, LocalDate endDate) {
-        List<Match> matches = matchRepository.findAll();
-        
-        return matches.stream()
-                .filter(match -> {
-                    if (divisionId != null) {
-                        boolean divisionMatch = (match.getHomeTeam() != null && match.getHomeTeam().getDivision() != null && 
-                                               match.getHomeTeam().getDivision().getId().equals(divisionId)) ||
-                                              (match.getAwayTeam() != null && match.getAwayTeam().getDivision() != null && 
-                                               match.getAwayTeam().getDivision().getId().equals(divisionId));
-                        if (!divisionMatch) return false;
-                    }
-                    if (stadiumId != null && (match.getStadium() == null || !match.getStadium().getId().equals(stadiumId))) {
-                        return false;
-                    }
-                    if (teamId != null) {
-                        boolean teamMatch = (match.getHomeTeam() != null && match.getHomeTeam().getId().equals(teamId)) ||
-                                          (match.getAwayTeam() != null && match.getAwayTeam().getId().equals(teamId));
-                        if (!teamMatch) return false;
-                    }
-                    if (startDate != null && match.getDate().isBefore(startDate)) {
-                        return false;
-                    }
-                    if (endDate != null && match.getDate().isAfter(endDate)) {
-                        return false;
-                    }
-                    return true;
-                })
-                .map(matchResponseDTOMapper::matchToMatchResponseDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public MatchPageDTO filterMatches(Long divisionId, Long stadiumId, Long teamId, LocalDate startDate,
+                                      LocalDate endDate, String cursor, int size) throws ApiException {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        MatchCursor after = MatchCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<MatchResponseDTO> matches = matchRepository.findMatchResponsesWithFilters(divisionId, stadiumId, teamId, startDate, endDate,
+                after != null ? after.getDate() : null,
+                after != null ? after.getTime() : null,
+                after != null ? after.getUuid() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        return matchResponseDTOMapper.matchResponseListToMatchPageDTO(matches, pageSize);
     }
 }
-
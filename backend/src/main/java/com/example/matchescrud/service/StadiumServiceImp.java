@@ -9,6 +9,7 @@ import com.example.matchescrud.model.entity.Stadium;
 import com.example.matchescrud.repository.StadiumRepository;
 import com.example.matchescrud.service.interfaces.IStadiumService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,12 +20,18 @@ public class StadiumServiceImp implements IStadiumService {
     //Dependency inyection
     private final StadiumRepository stadiumRepository;
     private final StadiumMapper stadiumMapper;
-    public StadiumServiceImp(StadiumRepository stadiumRepository, StadiumMapper stadiumMapper){
+    private final SearchIndex searchIndex;
+    private final StatisticsCache statisticsCache;
+    public StadiumServiceImp(StadiumRepository stadiumRepository, StadiumMapper stadiumMapper, SearchIndex searchIndex,
+                             StatisticsCache statisticsCache){
         this.stadiumRepository = stadiumRepository;
         this.stadiumMapper = stadiumMapper;
+        this.searchIndex = searchIndex;
+        this.statisticsCache = statisticsCache;
     }
 
     //GET
+    @Transactional(readOnly = true)
     @Override
     public List<StadiumDTO> getAllStadiums() {
         List<Stadium> stadiums = stadiumRepository.findAll();
@@ -33,6 +40,7 @@ public class StadiumServiceImp implements IStadiumService {
 
 
     //GET
+    @Transactional(readOnly = true)
     @Override
     public StadiumDTO getStadiumById(Long id) throws ApiException {
         Stadium stadium = stadiumRepository.findById(id).orElseThrow(() -> new StadiumNotFoundException(id));
@@ -40,6 +48,7 @@ public class StadiumServiceImp implements IStadiumService {
     }
 
     //POST
+    @Transactional
     @Override
     public StadiumDTO createStadium(StadiumDTO stadiumDTO) throws ApiException {
         // Converts StadiumDTO to Stadium
@@ -57,10 +66,13 @@ public class StadiumServiceImp implements IStadiumService {
 
         // Saves stadium in DB
         stadiumRepository.save(stadium);
+        searchIndex.stadiumSaved(stadium);
+        statisticsCache.stadiumChanged();
         return stadiumMapper.stadiumToStadiumDTO(stadium);
     }
 
     //PUT
+    @Transactional
     @Override
     public StadiumDTO updateStadiumById(Long id, StadiumDTO stadiumDTO) throws ApiException {
         Optional<Stadium> optionalStadium = stadiumRepository.findById(id);
@@ -76,6 +88,8 @@ public class StadiumServiceImp implements IStadiumService {
             }
             if (stadiumDTO.getCapacity() > 0 || stadiumDTO.getName() != null) {
                 stadiumRepository.save(existingStadium);
+                searchIndex.stadiumSaved(existingStadium);
+                statisticsCache.stadiumChanged();
                 return stadiumMapper.stadiumToStadiumDTO(existingStadium);
             }
         }
@@ -83,6 +97,7 @@ public class StadiumServiceImp implements IStadiumService {
     }
 
     //DELETE
+    @Transactional
     @Override
     public StadiumDTO deleteStadiumById(Long id) throws ApiException {
         //Verifies if stadium exists, if not, throws StadiumNotFoundException
@@ -90,6 +105,8 @@ public class StadiumServiceImp implements IStadiumService {
         if(stadiumOptional.isPresent()){
             //Deletes stadium from DB
             stadiumRepository.delete(stadiumOptional.get());
+            searchIndex.stadiumDeleted(id);
+            statisticsCache.stadiumChanged();
             return stadiumMapper.stadiumToStadiumDTO(stadiumOptional.get());
         }
         throw new StadiumNotFoundException(id);
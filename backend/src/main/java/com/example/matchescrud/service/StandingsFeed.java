@@ -0,0 +1,249 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.LeagueStandingsDTO;
+import com.example.matchescrud.dto.response.StandingsRowDTO;
+import com.example.matchescrud.dto.response.StandingsUpdateDTO;
+import com.example.matchescrud.event.StandingsChangedEvent;
+import com.example.matchescrud.repository.DivisionRepository;
+import com.example.matchescrud.repository.TeamStandingRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Pushes standings changes to the live standings subscribers of each division. A division's table is
+// kept in memory from its first subscriber on; after a result commits only that division is read
+// again, diffed against the kept table, and the rows whose position, points or goal difference changed
+// go out as a new version. The last versions are kept so a client that reconnects with the version it
+// last applied gets the deltas it missed, or a snapshot when they are no longer kept.
+@Component
+public class StandingsFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsFeed.class);
+    private static final String DIVISION_ATTRIBUTE = "standingsDivisionId";
+
+    private final TeamStandingRepository teamStandingRepository;
+    private final DivisionRepository divisionRepository;
+    private final ObjectMapper objectMapper;
+    // Read-write so the reads go to the primary, a lagging replica would diff against an old table
+    private final TransactionTemplate primaryRead;
+    private final int historySize;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final String epoch = UUID.randomUUID().toString();
+    private final Map<Long, DivisionFeed> feeds = new ConcurrentHashMap<>();
+    // One thread, so the versions of a division are published in order
+    private final ThreadPoolExecutor diffExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("standings-feed-"));
+
+    public StandingsFeed(TeamStandingRepository teamStandingRepository, DivisionRepository divisionRepository,
+                         ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                         @Value("${standings.live.history-size:256}") int historySize,
+                         @Value("${standings.live.send-time-limit-millis:10000}") int sendTimeLimitMillis,
+                         @Value("${standings.live.send-buffer-size-limit:524288}") int sendBufferSizeLimit) {
+        this.teamStandingRepository = teamStandingRepository;
+        this.divisionRepository = divisionRepository;
+        this.objectMapper = objectMapper;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.historySize = historySize;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    // Catches the session up from the given epoch and version, or with a snapshot, then adds it to the division
+    public void subscribe(WebSocketSession session, Long divisionId, String lastEpoch, Long lastVersion) throws IOException {
+        if (!divisionRepository.existsById(divisionId)) {
+            session.close(CloseStatus.BAD_DATA.withReason("No division was found with id " + divisionId));
+            return;
+        }
+        // A client that cannot keep up is closed and resumes from its last version
+        WebSocketSession subscriber = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis,
+                sendBufferSizeLimit, ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        session.getAttributes().put(DIVISION_ATTRIBUTE, divisionId);
+        DivisionFeed feed = feeds.computeIfAbsent(divisionId, DivisionFeed::new);
+        synchronized (feed) {
+            if (feed.rows == null) {
+                feed.rows = rows(readStandings(divisionId));
+            }
+            List<TextMessage> missed = epoch.equals(lastEpoch) && lastVersion != null
+                    ? feed.since(lastVersion) : null;
+            if (missed != null) {
+                for (TextMessage message : missed) {
+                    subscriber.sendMessage(message);
+                }
+            } else {
+                subscriber.sendMessage(message(new StandingsUpdateDTO("SNAPSHOT", divisionId, epoch, feed.version,
+                        feed.rows, List.of())));
+            }
+            feed.sessions.put(session.getId(), subscriber);
+        }
+    }
+
+    public void unsubscribe(WebSocketSession session) {
+        Object divisionId = session.getAttributes().get(DIVISION_ATTRIBUTE);
+        DivisionFeed feed = divisionId != null ? feeds.get(divisionId) : null;
+        if (feed != null) {
+            synchronized (feed) {
+                feed.sessions.remove(session.getId());
+            }
+        }
+    }
+
+    // After commit, off the request thread. Divisions nobody has subscribed to are not read
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStandingsChanged(StandingsChangedEvent event) {
+        Collection<Long> divisionIds = event.isAllDivisions() ? List.copyOf(feeds.keySet()) : event.getDivisionIds();
+        for (Long divisionId : divisionIds) {
+            DivisionFeed feed = feeds.get(divisionId);
+            if (feed == null) {
+                continue;
+            }
+            try {
+                diffExecutor.execute(() -> {
+                    try {
+                        publishChanges(feed);
+                    } catch (RuntimeException e) {
+                        logger.warn("Could not publish standings changes for division {}", divisionId, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        diffExecutor.shutdownNow();
+    }
+
+    private void publishChanges(DivisionFeed feed) {
+        List<StandingsRowDTO> current = rows(readStandings(feed.divisionId));
+        List<WebSocketSession> sessions;
+        TextMessage message;
+        synchronized (feed) {
+            if (feed.rows == null) {
+                feed.rows = current;
+                return;
+            }
+            List<StandingsRowDTO> changed = changedRows(feed.rows, current);
+            List<Long> removed = removedTeamIds(feed.rows, current);
+            feed.rows = current;
+            if (changed.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+            feed.version++;
+            message = message(new StandingsUpdateDTO("DELTA", feed.divisionId, epoch, feed.version, changed, removed));
+            feed.history.addLast(message);
+            if (feed.history.size() > historySize) {
+                feed.history.removeFirst();
+            }
+            sessions = List.copyOf(feed.sessions.values());
+        }
+        // Sent outside the lock, only this thread publishes so every session still sees the versions in order
+        for (WebSocketSession session : sessions) {
+            try {
+                session.sendMessage(message);
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(session);
+            }
+        }
+    }
+
+    private List<LeagueStandingsDTO> readStandings(Long divisionId) {
+        return primaryRead.execute(status -> teamStandingRepository.findStandingsByDivisionId(divisionId));
+    }
+
+    private TextMessage message(StandingsUpdateDTO update) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(update));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize standings update", e);
+        }
+    }
+
+    // Standings come ordered from the query, the position is the place in that order
+    static List<StandingsRowDTO> rows(List<LeagueStandingsDTO> standings) {
+        List<StandingsRowDTO> rows = new ArrayList<>(standings.size());
+        for (LeagueStandingsDTO standing : standings) {
+            rows.add(new StandingsRowDTO(rows.size() + 1, standing));
+        }
+        return rows;
+    }
+
+    // Rows that are new or whose position, points or goal difference differ from the previous table
+    static List<StandingsRowDTO> changedRows(List<StandingsRowDTO> previous, List<StandingsRowDTO> current) {
+        Map<Long, StandingsRowDTO> before = new HashMap<>();
+        for (StandingsRowDTO row : previous) {
+            before.put(row.getTeamId(), row);
+        }
+        List<StandingsRowDTO> changed = new ArrayList<>();
+        for (StandingsRowDTO row : current) {
+            StandingsRowDTO old = before.get(row.getTeamId());
+            if (old == null || old.getPosition() != row.getPosition() || old.getPoints() != row.getPoints()
+                    || old.getGoalDifference() != row.getGoalDifference()) {
+                changed.add(row);
+            }
+        }
+        return changed;
+    }
+
+    static List<Long> removedTeamIds(List<StandingsRowDTO> previous, List<StandingsRowDTO> current) {
+        Set<Long> remaining = new HashSet<>();
+        for (StandingsRowDTO row : current) {
+            remaining.add(row.getTeamId());
+        }
+        List<Long> removed = new ArrayList<>();
+        for (StandingsRowDTO row : previous) {
+            if (!remaining.contains(row.getTeamId())) {
+                removed.add(row.getTeamId());
+            }
+        }
+        return removed;
+    }
+
+    // Guarded by itself
+    private static final class DivisionFeed {
+        private final Long divisionId;
+        private List<StandingsRowDTO> rows;
+        private long version;
+        // Deltas of the last versions, the last one is version
+        private final ArrayDeque<TextMessage> history = new ArrayDeque<>();
+        private final Map<String, WebSocketSession> sessions = new HashMap<>();
+
+        private DivisionFeed(Long divisionId) {
+            this.divisionId = divisionId;
+        }
+
+        // The deltas after the given version, or null when some of them are no longer kept
+        private List<TextMessage> since(long lastVersion) {
+            long oldest = version - history.size();
+            if (lastVersion < oldest || lastVersion > version) {
+                return null;
+            }
+            List<TextMessage> missed = new ArrayList<>(history);
+            return missed.subList((int) (lastVersion - oldest), missed.size());
+        }
+    }
+}
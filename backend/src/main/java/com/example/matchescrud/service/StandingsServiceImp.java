@@ -0,0 +1,243 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.LeagueStandingsDTO;
+import com.example.matchescrud.event.StandingsChangedEvent;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.model.entity.TeamStanding;
+import com.example.matchescrud.repository.DivisionRepository;
+import com.example.matchescrud.repository.MatchRepository;
+import com.example.matchescrud.repository.TeamRepository;
+import com.example.matchescrud.repository.TeamStandingRepository;
+import com.example.matchescrud.service.interfaces.IStandingsService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class StandingsServiceImp implements IStandingsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsServiceImp.class);
+
+    private final TeamStandingRepository teamStandingRepository;
+    private final TeamRepository teamRepository;
+    private final MatchRepository matchRepository;
+    private final DivisionRepository divisionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // Divisions are rebuilt concurrently, each task holds a pooled connection so keep this below the pool size
+    private final ThreadPoolExecutor rebuildExecutor;
+
+    public StandingsServiceImp(TeamStandingRepository teamStandingRepository, TeamRepository teamRepository,
+                               MatchRepository matchRepository, DivisionRepository divisionRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${standings.rebuild.parallelism:4}") int parallelism) {
+        this.teamStandingRepository = teamStandingRepository;
+        this.teamRepository = teamRepository;
+        this.matchRepository = matchRepository;
+        this.divisionRepository = divisionRepository;
+        this.eventPublisher = eventPublisher;
+        this.rebuildExecutor = new ThreadPoolExecutor(parallelism, parallelism, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("standings-rebuild-"));
+        // Rebuilds are rare, do not keep idle threads around
+        this.rebuildExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeagueStandingsDTO> getStandingsByDivision(Long divisionId) {
+        return teamStandingRepository.findStandingsByDivisionId(divisionId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeagueStandingsDTO> getAllStandings() {
+        return teamStandingRepository.findAllStandings();
+    }
+
+    @Override
+    @Transactional
+    public void recordResult(Match match) {
+        applyResult(match, 1);
+    }
+
+    @Override
+    @Transactional
+    public void revertResult(Match match) {
+        applyResult(match, -1);
+    }
+
+    // Rows are locked before the matches are read and updated in place. A result committed before
+    // the lock is in the matches read, one committed after waits for the rebuild and is applied on
+    // top of it, so no result is counted twice or lost
+    @Override
+    @Transactional
+    public int rebuildStandings() {
+        teamStandingRepository.insertMissingStandings();
+        Map<Long, TeamStanding> rows = new HashMap<>();
+        for (TeamStanding row : teamStandingRepository.findAllForUpdate()) {
+            rows.put(row.getTeam().getId(), row);
+        }
+
+        // One task per division, plus one for teams without a division
+        List<Long> divisionIds = new ArrayList<>(divisionRepository.findAllIds());
+        divisionIds.add(null);
+
+        List<Future<Map<Long, TeamStanding>>> tasks = new ArrayList<>();
+        for (Long divisionId : divisionIds) {
+            tasks.add(rebuildExecutor.submit(() -> computeDivisionStandings(divisionId)));
+        }
+
+        // Merged in division order
+        Map<Long, TeamStanding> standings = new LinkedHashMap<>();
+        for (Future<Map<Long, TeamStanding>> task : tasks) {
+            standings.putAll(await(task));
+        }
+        // A team created since the rows were locked only has results applied as deltas
+        standings.forEach((teamId, standing) -> {
+            TeamStanding row = rows.get(teamId);
+            if (row != null) {
+                copyResults(standing, row);
+            }
+        });
+        eventPublisher.publishEvent(StandingsChangedEvent.allDivisions());
+        logger.info("Rebuilt standings for {} teams in {} divisions", standings.size(), divisionIds.size() - 1);
+        return standings.size();
+    }
+
+    // Seeds the read model the first time the application starts against an existing database
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeStandings() {
+        if (teamStandingRepository.count() == 0 && matchRepository.count() > 0) {
+            rebuildStandings();
+        }
+    }
+
+    // Runs on the rebuild executor, each repository call uses its own connection
+    private Map<Long, TeamStanding> computeDivisionStandings(Long divisionId) {
+        Map<Long, TeamStanding> standings = new HashMap<>();
+        for (Long teamId : teamRepository.findIdsByDivisionId(divisionId)) {
+            standings.put(teamId, new TeamStanding());
+        }
+
+        // Matches against other divisions come back too, only this division's side is counted
+        for (Object[] result : matchRepository.findResultsByDivisionId(divisionId)) {
+            Long homeTeamId = (Long) result[0];
+            Long awayTeamId = (Long) result[1];
+            int homeGoals = (Integer) result[2];
+            int awayGoals = (Integer) result[3];
+            accumulate(standings.get(homeTeamId), homeGoals, awayGoals);
+            accumulate(standings.get(awayTeamId), awayGoals, homeGoals);
+        }
+        return standings;
+    }
+
+    private <T> T await(Future<T> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding standings", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Standings rebuild failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void applyResult(Match match, int sign) {
+        if (match.getHomeTeam() == null || match.getAwayTeam() == null) {
+            return;
+        }
+        // Rows are locked in team order, as the rebuild does
+        if (match.getHomeTeam().getId() <= match.getAwayTeam().getId()) {
+            applyTeamResult(match.getHomeTeam().getId(), match.getHomeGoals(), match.getAwayGoals(), sign);
+            applyTeamResult(match.getAwayTeam().getId(), match.getAwayGoals(), match.getHomeGoals(), sign);
+        } else {
+            applyTeamResult(match.getAwayTeam().getId(), match.getAwayGoals(), match.getHomeGoals(), sign);
+            applyTeamResult(match.getHomeTeam().getId(), match.getHomeGoals(), match.getAwayGoals(), sign);
+        }
+
+        // Teams without a division have no standings table to update
+        StandingsChangedEvent event = new StandingsChangedEvent(
+                divisionId(match.getHomeTeam()), divisionId(match.getAwayTeam()));
+        if (!event.isAllDivisions()) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private static Long divisionId(Team team) {
+        return team.getDivision() != null ? team.getDivision().getId() : null;
+    }
+
+    private void applyTeamResult(Long teamId, int scored, int conceded, int sign) {
+        int win = scored > conceded ? sign : 0;
+        int draw = scored == conceded ? sign : 0;
+        int loss = scored < conceded ? sign : 0;
+
+        if (teamStandingRepository.applyDelta(teamId, sign, win, draw, loss,
+                scored * sign, conceded * sign, (win * 3) + draw) > 0) {
+            return;
+        }
+        // First result of a team created since the last rebuild
+        teamStandingRepository.insertEmptyStanding(teamId);
+        if (sign < 0) {
+            // A row that did not exist never counted this result, there is nothing to take back
+            logger.warn("No standings row for team {} when reverting a result, rebuild the standings if it is off", teamId);
+            return;
+        }
+        teamStandingRepository.applyDelta(teamId, sign, win, draw, loss, scored, conceded, (win * 3) + draw);
+    }
+
+    private static void copyResults(TeamStanding from, TeamStanding to) {
+        to.setPlayed(from.getPlayed());
+        to.setWins(from.getWins());
+        to.setDraws(from.getDraws());
+        to.setLosses(from.getLosses());
+        to.setGoalsFor(from.getGoalsFor());
+        to.setGoalsAgainst(from.getGoalsAgainst());
+        to.setPoints(from.getPoints());
+    }
+
+    private void accumulate(TeamStanding standing, int scored, int conceded) {
+        if (standing == null) {
+            return;
+        }
+        standing.setPlayed(standing.getPlayed() + 1);
+        standing.setGoalsFor(standing.getGoalsFor() + scored);
+        standing.setGoalsAgainst(standing.getGoalsAgainst() + conceded);
+        if (scored > conceded) {
+            standing.setWins(standing.getWins() + 1);
+            standing.setPoints(standing.getPoints() + 3);
+        } else if (scored < conceded) {
+            standing.setLosses(standing.getLosses() + 1);
+        } else {
+            standing.setDraws(standing.getDraws() + 1);
+            standing.setPoints(standing.getPoints() + 1);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.*;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.util.TtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+// Results of the statistics endpoints, kept until a write that affects them or until the TTL runs out.
+// Writers report what they changed and only the entries depending on it are dropped.
+// Hits, misses, evictions and sizes are published as cache.* metrics at /actuator/metrics.
+@Component
+public class StatisticsCache implements MeterBinder {
+
+    private static final String ALL = "all";
+
+    private final TtlCache<Long, List<LeagueStandingsDTO>> standingsByDivision;
+    private final TtlCache<String, List<LeagueStandingsDTO>> allStandings;
+    private final TtlCache<Integer, List<TopScorerDTO>> topScorers;
+    private final TtlCache<Integer, List<TopAssistsDTO>> topAssists;
+    private final TtlCache<Long, List<TeamPerformanceDTO>> teamPerformance;
+    private final TtlCache<List<Object>, List<StadiumStatsDTO>> stadiumStatistics;
+
+    public StatisticsCache(@Value("${statistics.cache.max-entries:256}") int maxEntries,
+                           @Value("${statistics.cache.ttl-seconds:300}") long ttlSeconds) {
+        long ttlMillis = ttlSeconds * 1000;
+        this.standingsByDivision = new TtlCache<>("standingsByDivision", maxEntries, ttlMillis);
+        this.allStandings = new TtlCache<>("allStandings", 1, ttlMillis);
+        this.topScorers = new TtlCache<>("topScorers", maxEntries, ttlMillis);
+        this.topAssists = new TtlCache<>("topAssists", maxEntries, ttlMillis);
+        this.teamPerformance = new TtlCache<>("teamPerformance", maxEntries, ttlMillis);
+        this.stadiumStatistics = new TtlCache<>("stadiumStatistics", maxEntries, ttlMillis);
+    }
+
+    public List<LeagueStandingsDTO> getStandingsByDivision(Long divisionId, Supplier<List<LeagueStandingsDTO>> loader) {
+        return standingsByDivision.get(divisionId, loader);
+    }
+
+    public List<LeagueStandingsDTO> getAllStandings(Supplier<List<LeagueStandingsDTO>> loader) {
+        return allStandings.get(ALL, loader);
+    }
+
+    public List<TopScorerDTO> getTopScorers(int limit, Supplier<List<TopScorerDTO>> loader) {
+        return topScorers.get(limit, loader);
+    }
+
+    public List<TopAssistsDTO> getTopAssists(int limit, Supplier<List<TopAssistsDTO>> loader) {
+        return topAssists.get(limit, loader);
+    }
+
+    public List<TeamPerformanceDTO> getTeamPerformance(Long teamId, Supplier<List<TeamPerformanceDTO>> loader) {
+        return teamPerformance.get(teamId, loader);
+    }
+
+    public List<StadiumStatsDTO> getStadiumStatistics(Long divisionId, LocalDate startDate, LocalDate endDate,
+                                                      Supplier<List<StadiumStatsDTO>> loader) {
+        return stadiumStatistics.get(Arrays.asList(divisionId, startDate, endDate), loader);
+    }
+
+    // A match was created, updated or deleted, drops what depends on its teams and their divisions
+    public void matchChanged(Match match) {
+        Set<Long> teamIds = new HashSet<>();
+        Set<Long> divisionIds = new HashSet<>();
+        collect(match.getHomeTeam(), teamIds, divisionIds);
+        collect(match.getAwayTeam(), teamIds, divisionIds);
+
+        invalidate(() -> {
+            standingsByDivision.invalidateIf(divisionIds::contains);
+            allStandings.invalidateAll();
+            teamIds.forEach(teamPerformance::invalidate);
+            stadiumStatistics.invalidateAll();
+        });
+    }
+
+    // Goals or assists of a player changed, every top-N list may be affected
+    public void playerStatsChanged() {
+        invalidate(() -> {
+            topScorers.invalidateAll();
+            topAssists.invalidateAll();
+        });
+    }
+
+    // A team was created, renamed, moved to another division or deleted. Its name is on the standings
+    // and top-N rows, and deleting it takes its matches out of the stadium statistics
+    public void teamChanged(Long teamId) {
+        invalidate(() -> {
+            standingsByDivision.invalidateAll();
+            allStandings.invalidateAll();
+            topScorers.invalidateAll();
+            topAssists.invalidateAll();
+            if (teamId != null) {
+                teamPerformance.invalidate(teamId);
+            }
+            stadiumStatistics.invalidateAll();
+        });
+    }
+
+    // A player was renamed or deleted, the top-N lists show player names
+    public void playerChanged() {
+        playerStatsChanged();
+    }
+
+    // A stadium was created, renamed, resized or deleted
+    public void stadiumChanged() {
+        invalidate(stadiumStatistics::invalidateAll);
+    }
+
+    // Used after bulk repairs where the affected keys are not known
+    public void invalidateAll() {
+        invalidate(() -> {
+            standingsByDivision.invalidateAll();
+            allStandings.invalidateAll();
+            topScorers.invalidateAll();
+            topAssists.invalidateAll();
+            teamPerformance.invalidateAll();
+            stadiumStatistics.invalidateAll();
+        });
+    }
+
+    public List<TtlCache.Stats> stats() {
+        return caches().stream().map(TtlCache::stats).toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TtlCache<?, ?> cache : caches()) {
+            Tags tags = Tags.of("cache", cache.stats().getName(), "cache.manager", "statistics");
+            counter(registry, "cache.gets", tags.and("result", "hit"), cache, TtlCache.Stats::getHits);
+            counter(registry, "cache.gets", tags.and("result", "miss"), cache, TtlCache.Stats::getMisses);
+            counter(registry, "cache.evictions", tags.and("cause", "size"), cache, TtlCache.Stats::getSizeEvictions);
+            counter(registry, "cache.evictions", tags.and("cause", "expired"), cache, TtlCache.Stats::getExpirations);
+            counter(registry, "cache.invalidations", tags, cache, TtlCache.Stats::getInvalidations);
+            Gauge.builder("cache.size", cache, c -> c.stats().getSize()).tags(tags).register(registry);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String name, Tags tags, TtlCache<?, ?> cache,
+                                ToDoubleFunction<TtlCache.Stats> value) {
+        FunctionCounter.builder(name, cache, c -> value.applyAsDouble(c.stats())).tags(tags).register(registry);
+    }
+
+    private List<TtlCache<?, ?>> caches() {
+        return List.of(standingsByDivision, allStandings, topScorers, topAssists, teamPerformance, stadiumStatistics);
+    }
+
+    private void collect(Team team, Set<Long> teamIds, Set<Long> divisionIds) {
+        if (team == null) {
+            return;
+        }
+        teamIds.add(team.getId());
+        if (team.getDivision() != null) {
+            divisionIds.add(team.getDivision().getId());
+        }
+    }
+
+    // Invalidates right away, so loads already running are not stored, and again once the
+    // transaction commits, so nothing read before the commit survives it
+    private void invalidate(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -6,9 +6,14 @@ import com.example.matchescrud.exceptions.NotFoundExceptions.DivisionNotFoundExc
 import com.example.matchescrud.exceptions.NotFoundExceptions.TeamNotFoundException;
 import com.example.matchescrud.model.entity.*;
 import com.example.matchescrud.repository.*;
+import com.example.matchescrud.service.interfaces.IStandingsService;
 import com.example.matchescrud.service.interfaces.IStatisticsService;
-import jakarta.transaction.Transactional;
+import com.example.matchescrud.util.SingleFlight;
+import com.example.matchescrud.util.TopK;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -17,285 +22,129 @@ import java.util.stream.Collectors;
 @Service
 public class StatisticsServiceImp implements IStatisticsService {
 
+    private static final List<String> HARDCODED_TEAMS = List.of(
+            "Manchester United", "Liverpool FC", "Chelsea FC", "Arsenal FC", "Manchester City",
+            "Tottenham Hotspur", "Newcastle United", "Brighton & Hove Albion", "Leicester City", "Aston Villa");
+
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
     private final DivisionRepository divisionRepository;
     private final StadiumRepository stadiumRepository;
     private final MatchPlayerStatsRepository matchPlayerStatsRepository;
     private final PlayerRepository playerRepository;
+    private final IStandingsService standingsService;
+    private final StatisticsCache statisticsCache;
+    // Concurrent cache misses for the same statistic share one computation
+    private final SingleFlight singleFlight = new SingleFlight();
 
     public StatisticsServiceImp(MatchRepository matchRepository, TeamRepository teamRepository,
                                 DivisionRepository divisionRepository, StadiumRepository stadiumRepository,
-                                MatchPlayerStatsRepository matchPlayerStatsRepository, PlayerRepository playerRepository) {
+                                MatchPlayerStatsRepository matchPlayerStatsRepository, PlayerRepository playerRepository,
+                                IStandingsService standingsService, StatisticsCache statisticsCache) {
         this.matchRepository = matchRepository;
         this.teamRepository = teamRepository;
         this.divisionRepository = divisionRepository;
         this.stadiumRepository = stadiumRepository;
         this.matchPlayerStatsRepository = matchPlayerStatsRepository;
         this.playerRepository = playerRepository;
+        this.standingsService = standingsService;
+        this.statisticsCache = statisticsCache;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<LeagueStandingsDTO> getLeagueStandingsByDivision(Long divisionId) throws ApiException {
         Division division = divisionRepository.findById(divisionId)
                 .orElseThrow(() -> new DivisionNotFoundException(divisionId));
 
-        // Get all teams in this division
-        List<Team> teams = teamRepository.findAll().stream()
-                .filter(team -> team.getDivision() != null && team.getDivision().getId().equals(divisionId))
-                .collect(Collectors.toList());
-
-        if (teams.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        List<LeagueStandingsDTO> standings = new ArrayList<>();
-
-        for (Team team : teams) {
-            LeagueStandingsDTO standing = calculateTeamStandings(team, division);
-            standings.add(standing);
-        }
-
-        // Sort by points (descending), then goal difference (descending), then goals for (descending)
-        standings.sort((a, b) -> {
-            if (b.getPoints() != a.getPoints()) {
-                return b.getPoints() - a.getPoints();
-            }
-            if (b.getGoalDifference() != a.getGoalDifference()) {
-                return b.getGoalDifference() - a.getGoalDifference();
-            }
-            return b.getGoalsFor() - a.getGoalsFor();
-        });
-
-        return standings;
+        return statisticsCache.getStandingsByDivision(division.getId(),
+                () -> singleFlight.execute(SingleFlight.key("getLeagueStandingsByDivision", division.getId()),
+                        () -> standingsService.getStandingsByDivision(division.getId())));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<LeagueStandingsDTO> getAllLeagueStandings() {
-        List<Match> allMatches = matchRepository.findAll();
-        Map<Long, Map<Long, LeagueStandingsDTO>> divisionStandingsMap = new HashMap<>();
-
-        // Group teams by division and calculate standings
-        for (Team team : teamRepository.findAll()) {
-            if (team.getDivision() == null) {
-                continue;
-            }
-
-            Long divisionId = team.getDivision().getId();
-            divisionStandingsMap.computeIfAbsent(divisionId, k -> new HashMap<>());
-
-            LeagueStandingsDTO standing = calculateTeamStandings(team, team.getDivision());
-            divisionStandingsMap.get(divisionId).put(team.getId(), standing);
-        }
-
-        // Flatten and sort
-        List<LeagueStandingsDTO> allStandings = new ArrayList<>();
-        for (Map<Long, LeagueStandingsDTO> standingsMap : divisionStandingsMap.values()) {
-            List<LeagueStandingsDTO> divisionStandings = new ArrayList<>(standingsMap.values());
-            divisionStandings.sort((a, b) -> {
-                if (b.getPoints() != a.getPoints()) {
-                    return b.getPoints() - a.getPoints();
-                }
-                if (b.getGoalDifference() != a.getGoalDifference()) {
-                    return b.getGoalDifference() - a.getGoalDifference();
-                }
-                return b.getGoalsFor() - a.getGoalsFor();
-            });
-            allStandings.addAll(divisionStandings);
-        }
-
-        return allStandings;
-    }
-
-    private LeagueStandingsDTO calculateTeamStandings(Team team, Division division) {
-        int wins = 0;
-        int draws = 0;
-        int losses = 0;
-        int goalsFor = 0;
-        int goalsAgainst = 0;
-
-        // Count home matches
-        if (team.getHomeMatches() != null) {
-            for (Match match : team.getHomeMatches()) {
-                goalsFor += match.getHomeGoals();
-                goalsAgainst += match.getAwayGoals();
-
-                if (match.getHomeGoals() > match.getAwayGoals()) {
-                    wins++;
-                } else if (match.getHomeGoals() < match.getAwayGoals()) {
-                    losses++;
-                } else {
-                    draws++;
-                }
-            }
-        }
-
-        // Count away matches
-        if (team.getAwayMatches() != null) {
-            for (Match match : team.getAwayMatches()) {
-                goalsFor += match.getAwayGoals();
-                goalsAgainst += match.getHomeGoals();
-
-                if (match.getAwayGoals() > match.getHomeGoals()) {
-                    wins++;
-                } else if (match.getAwayGoals() < match.getHomeGoals()) {
-                    losses++;
-                } else {
-                    draws++;
-                }
-            }
-        }
-
-        int played = wins + draws + losses;
-        int goalDifference = goalsFor - goalsAgainst;
-        int points = (wins * 3) + draws;
-
-        return new LeagueStandingsDTO(
-                team.getId(),
-                team.getName() != null ? team.getName() : "Unnamed Team",
-                played,
-                wins,
-                draws,
-                losses,
-                goalsFor,
-                goalsAgainst,
-                goalDifference,
-                points,
-                division.getId(),
-                division.getName()
-        );
+        return statisticsCache.getAllStandings(standingsService::getAllStandings);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<TopScorerDTO> getTopScorers(int limit) {
-        // Get database stats
-        List<MatchPlayerStats> allStats = matchPlayerStatsRepository.findAll();
-
-        // Aggregate goals by player
-        Map<Long, PlayerStats> playerStatsMap = new HashMap<>();
-
-        for (MatchPlayerStats stats : allStats) {
-            Long playerId = stats.getPlayer().getId();
-            playerStatsMap.putIfAbsent(playerId, new PlayerStats(stats.getPlayer()));
-
-            PlayerStats playerStats = playerStatsMap.get(playerId);
-            playerStats.goals += stats.getGoals();
-            playerStats.matchesPlayed++;
-        }
-
-        // Convert to DTOs
-        List<TopScorerDTO> topScorers = playerStatsMap.values().stream()
-                .map(ps -> new TopScorerDTO(
-                        ps.player.getId(),
-                        ps.player.getName() != null ? ps.player.getName() : "Unknown",
-                        ps.player.getTeam() != null && ps.player.getTeam().getName() != null 
-                                ? ps.player.getTeam().getName() : "Unknown Team",
-                        ps.player.getTeam() != null ? ps.player.getTeam().getId() : null,
-                        ps.goals,
-                        ps.matchesPlayed
-                ))
-                .collect(Collectors.toList());
+        return statisticsCache.getTopScorers(limit,
+                () -> singleFlight.execute(SingleFlight.key("getTopScorers", limit), () -> computeTopScorers(limit)));
+    }
 
-        // Add hardcoded top scorers for all teams
-        List<TopScorerDTO> hardcodedScorers = getHardcodedTopScorers();
-        topScorers.addAll(hardcodedScorers);
+    private List<TopScorerDTO> computeTopScorers(int limit) {
+        // Aggregated in the database, only the best rows come back. The hardcoded entries can
+        // only raise a player's total, so the merged top-K is within these rows plus the hardcoded ones
+        List<TopScorerDTO> topScorers = matchPlayerStatsRepository.findTopScorers(pageFor(limit));
 
-        // Merge duplicates (by player ID) - take the higher goals value
+        // Merge duplicates (by player ID) - take the higher goals value, then more matches played
         Map<Long, TopScorerDTO> mergedMap = new HashMap<>();
         for (TopScorerDTO scorer : topScorers) {
-            Long playerId = scorer.getPlayerId();
-            if (!mergedMap.containsKey(playerId)) {
-                mergedMap.put(playerId, scorer);
-            } else {
-                TopScorerDTO existing = mergedMap.get(playerId);
-                if (scorer.getTotalGoals() > existing.getTotalGoals()) {
-                    mergedMap.put(playerId, scorer);
-                } else if (scorer.getTotalGoals() == existing.getTotalGoals()) {
-                    // Keep the one with more matches played
-                    if (scorer.getMatchesPlayed() > existing.getMatchesPlayed()) {
-                        mergedMap.put(playerId, scorer);
-                    }
-                }
-            }
+            mergedMap.put(scorer.getPlayerId(), scorer);
+        }
+        for (TopScorerDTO scorer : getHardcodedTopScorers()) {
+            mergedMap.merge(scorer.getPlayerId(), scorer, (existing, candidate) ->
+                    candidate.getTotalGoals() > existing.getTotalGoals()
+                            || (candidate.getTotalGoals() == existing.getTotalGoals()
+                                && candidate.getMatchesPlayed() > existing.getMatchesPlayed())
+                            ? candidate : existing);
         }
 
-        // Sort and limit
-        return mergedMap.values().stream()
-                .sorted((a, b) -> b.getTotalGoals() - a.getTotalGoals())
-                .limit(limit > 0 ? limit : Integer.MAX_VALUE)
-                .collect(Collectors.toList());
+        TopK<TopScorerDTO> best = new TopK<>(limit,
+                Comparator.comparingInt(TopScorerDTO::getTotalGoals).reversed()
+                        .thenComparing(TopScorerDTO::getPlayerId));
+        best.offerAll(mergedMap.values());
+        return best.toSortedList();
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<TopAssistsDTO> getTopAssists(int limit) {
-        // Get database stats
-        List<MatchPlayerStats> allStats = matchPlayerStatsRepository.findAll();
-
-        // Aggregate assists by player
-        Map<Long, PlayerAssistStats> playerStatsMap = new HashMap<>();
-
-        for (MatchPlayerStats stats : allStats) {
-            Long playerId = stats.getPlayer().getId();
-            playerStatsMap.putIfAbsent(playerId, new PlayerAssistStats(stats.getPlayer()));
-
-            PlayerAssistStats playerStats = playerStatsMap.get(playerId);
-            playerStats.assists += stats.getAssists();
-            playerStats.matchesPlayed++;
-        }
-
-        // Convert to DTOs
-        List<TopAssistsDTO> topAssists = playerStatsMap.values().stream()
-                .map(ps -> new TopAssistsDTO(
-                        ps.player.getId(),
-                        ps.player.getName() != null ? ps.player.getName() : "Unknown",
-                        ps.player.getTeam() != null && ps.player.getTeam().getName() != null 
-                                ? ps.player.getTeam().getName() : "Unknown Team",
-                        ps.player.getTeam() != null ? ps.player.getTeam().getId() : null,
-                        ps.assists,
-                        ps.matchesPlayed
-                ))
-                .collect(Collectors.toList());
+        return statisticsCache.getTopAssists(limit, () -> computeTopAssists(limit));
+    }
 
-        // Add hardcoded top assists for all teams
-        List<TopAssistsDTO> hardcodedAssists = getHardcodedTopAssists();
-        topAssists.addAll(hardcodedAssists);
+    private List<TopAssistsDTO> computeTopAssists(int limit) {
+        // Same approach as getTopScorers
+        List<TopAssistsDTO> topAssists = matchPlayerStatsRepository.findTopAssists(pageFor(limit));
 
-        // Merge duplicates (by player ID) - take the higher assists value
+        // Merge duplicates (by player ID) - take the higher assists value, then more matches played
         Map<Long, TopAssistsDTO> mergedMap = new HashMap<>();
         for (TopAssistsDTO assist : topAssists) {
-            Long playerId = assist.getPlayerId();
-            if (!mergedMap.containsKey(playerId)) {
-                mergedMap.put(playerId, assist);
-            } else {
-                TopAssistsDTO existing = mergedMap.get(playerId);
-                if (assist.getTotalAssists() > existing.getTotalAssists()) {
-                    mergedMap.put(playerId, assist);
-                } else if (assist.getTotalAssists() == existing.getTotalAssists()) {
-                    // Keep the one with more matches played
-                    if (assist.getMatchesPlayed() > existing.getMatchesPlayed()) {
-                        mergedMap.put(playerId, assist);
-                    }
-                }
-            }
+            mergedMap.put(assist.getPlayerId(), assist);
+        }
+        for (TopAssistsDTO assist : getHardcodedTopAssists()) {
+            mergedMap.merge(assist.getPlayerId(), assist, (existing, candidate) ->
+                    candidate.getTotalAssists() > existing.getTotalAssists()
+                            || (candidate.getTotalAssists() == existing.getTotalAssists()
+                                && candidate.getMatchesPlayed() > existing.getMatchesPlayed())
+                            ? candidate : existing);
         }
 
-        // Sort and limit
-        return mergedMap.values().stream()
-                .sorted((a, b) -> b.getTotalAssists() - a.getTotalAssists())
-                .limit(limit > 0 ? limit : Integer.MAX_VALUE)
-                .collect(Collectors.toList());
+        TopK<TopAssistsDTO> best = new TopK<>(limit,
+                Comparator.comparingInt(TopAssistsDTO::getTotalAssists).reversed()
+                        .thenComparing(TopAssistsDTO::getPlayerId));
+        best.offerAll(mergedMap.values());
+        return best.toSortedList();
+    }
+
+    private Pageable pageFor(int limit) {
+        return limit > 0 ? PageRequest.of(0, limit) : Pageable.unpaged();
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<TeamPerformanceDTO> getTeamPerformanceOverTime(Long teamId) throws ApiException {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new TeamNotFoundException(teamId));
 
+        return statisticsCache.getTeamPerformance(teamId, () -> computeTeamPerformance(team));
+    }
+
+    private List<TeamPerformanceDTO> computeTeamPerformance(Team team) {
+        Long teamId = team.getId();
         List<Match> allTeamMatches = new ArrayList<>();
         if (team.getHomeMatches() != null) {
             allTeamMatches.addAll(team.getHomeMatches());
@@ -345,78 +194,30 @@ public class StatisticsServiceImp implements IStatisticsService {
     }
 
     @Override
-    @Transactional
-    public List<StadiumStatsDTO> getStadiumStatistics() {
-        List<Stadium> allStadiums = stadiumRepository.findAll();
-        List<Match> allMatches = matchRepository.findAll();
-
-        Map<Long, StadiumStats> stadiumStatsMap = new HashMap<>();
-
-        // Initialize stats for all stadiums
-        for (Stadium stadium : allStadiums) {
-            stadiumStatsMap.put(stadium.getId(), new StadiumStats(stadium));
-        }
-
-        // Aggregate match data by stadium
-        for (Match match : allMatches) {
-            if (match.getStadium() == null) {
-                continue;
-            }
-
-            Long stadiumId = match.getStadium().getId();
-            StadiumStats stats = stadiumStatsMap.get(stadiumId);
-
-            if (stats != null) {
-                stats.totalMatches++;
-                stats.totalSpectators += match.getSpectators();
-            }
-        }
-
-        // Convert to DTOs
-        return stadiumStatsMap.values().stream()
-                .map(ss -> {
-                    double avgAttendance = ss.totalMatches > 0 
-                            ? (double) ss.totalSpectators / ss.totalMatches 
-                            : 0.0;
-                    double occupancyRate = ss.stadium.getCapacity() > 0 
-                            ? (avgAttendance / ss.stadium.getCapacity()) * 100.0 
-                            : 0.0;
-
-                    return new StadiumStatsDTO(
-                            ss.stadium.getId(),
-                            ss.stadium.getName() != null ? ss.stadium.getName() : "Unknown",
-                            ss.stadium.getCapacity(),
-                            ss.totalMatches,
-                            ss.totalSpectators,
-                            Math.round(avgAttendance * 100.0) / 100.0, // Round to 2 decimal places
-                            Math.round(occupancyRate * 100.0) / 100.0  // Round to 2 decimal places
-                    );
-                })
-                .sorted((a, b) -> Long.compare(b.getTotalSpectators(), a.getTotalSpectators()))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<StadiumStatsDTO> getStadiumStatistics(Long divisionId, LocalDate startDate, LocalDate endDate) {
+        return statisticsCache.getStadiumStatistics(divisionId, startDate, endDate,
+                () -> singleFlight.execute(SingleFlight.key("getStadiumStatistics", divisionId, startDate, endDate),
+                        () -> computeStadiumStatistics(divisionId, startDate, endDate)));
     }
 
-    // Helper classes for aggregation
-    private static class PlayerStats {
-        Player player;
-        int goals = 0;
-        int matchesPlayed = 0;
-
-        PlayerStats(Player player) {
-            this.player = player;
-        }
-    }
-
-    private static class PlayerAssistStats {
-        Player player;
-        int assists = 0;
-        int matchesPlayed = 0;
-
-        PlayerAssistStats(Player player) {
-            this.player = player;
+    private List<StadiumStatsDTO> computeStadiumStatistics(Long divisionId, LocalDate startDate, LocalDate endDate) {
+        // Totals come from one GROUP BY query, only the per-stadium ratios are computed here
+        List<StadiumStatsDTO> stadiumStats = stadiumRepository.findStadiumStatistics(divisionId, startDate, endDate);
+        for (StadiumStatsDTO stats : stadiumStats) {
+            double avgAttendance = stats.getTotalMatches() > 0
+                    ? (double) stats.getTotalSpectators() / stats.getTotalMatches()
+                    : 0.0;
+            double occupancyRate = stats.getCapacity() > 0
+                    ? (avgAttendance / stats.getCapacity()) * 100.0
+                    : 0.0;
+            stats.setAverageAttendance(Math.round(avgAttendance * 100.0) / 100.0); // Round to 2 decimal places
+            stats.setOccupancyRate(Math.round(occupancyRate * 100.0) / 100.0);     // Round to 2 decimal places
         }
+        return stadiumStats;
     }
 
+    // Helper classes for aggregation
     private static class DatePerformance {
         LocalDate date;
         int wins = 0;
@@ -427,281 +228,249 @@ public class StatisticsServiceImp implements IStatisticsService {
             this.date = date;
         }
     }
-
-    private static class StadiumStats {
-        Stadium stadium;
-        int totalMatches = 0;
-        long totalSpectators = 0;
-
-        StadiumStats(Stadium stadium) {
-            this.stadium = stadium;
-        }
-    }
     
     private List<TopScorerDTO> getHardcodedTopScorers() {
         List<TopScorerDTO> hardcoded = new ArrayList<>();
-        
-        // Get all teams
-        List<Team> allTeams = teamRepository.findAll();
-        Map<String, Team> teamMap = new HashMap<>();
-        for (Team team : allTeams) {
-            if (team.getName() != null) {
-                teamMap.put(team.getName(), team);
-            }
-            if (team.getUsername() != null) {
-                teamMap.put(team.getUsername(), team);
-            }
-        }
+        Map<String, Player> playerIndex = getHardcodedPlayerIndex();
         
         // Hardcoded top scorers for each team
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Anthony Martial", 15, 12);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Alejandro Garnacho", 12, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Antony", 10, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Rasmus Hojlund", 9, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Bruno Fernandes", 8, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Marcus Rashford", 7, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Mason Mount", 6, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester United", "Diogo Dalot", 5, 11);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Anthony Martial", 15, 12);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Alejandro Garnacho", 12, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Antony", 10, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Rasmus Hojlund", 9, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Bruno Fernandes", 8, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Marcus Rashford", 7, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Mason Mount", 6, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester United", "Diogo Dalot", 5, 11);
         
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Mohamed Salah", 18, 14);
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Darwin Nunez", 14, 12);
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Luis Diaz", 11, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Cody Gakpo", 9, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Harvey Elliott", 7, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Curtis Jones", 5, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Alexis Mac Allister", 4, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Liverpool FC", "Dominik Szoboszlai", 3, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Mohamed Salah", 18, 14);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Darwin Nunez", 14, 12);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Luis Diaz", 11, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Cody Gakpo", 9, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Harvey Elliott", 7, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Curtis Jones", 5, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Alexis Mac Allister", 4, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Liverpool FC", "Dominik Szoboszlai", 3, 8);
         
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Nicolas Jackson", 13, 11);
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Cole Palmer", 11, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Raheem Sterling", 9, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Mykhailo Mudryk", 7, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Conor Gallagher", 6, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Noni Madueke", 5, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Armando Broja", 4, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Chelsea FC", "Enzo Fernandez", 3, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Nicolas Jackson", 13, 11);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Cole Palmer", 11, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Raheem Sterling", 9, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Mykhailo Mudryk", 7, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Conor Gallagher", 6, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Noni Madueke", 5, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Armando Broja", 4, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Chelsea FC", "Enzo Fernandez", 3, 10);
         
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Bukayo Saka", 16, 13);
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Gabriel Jesus", 12, 11);
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Gabriel Martinelli", 10, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Leandro Trossard", 8, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Martin Odegaard", 7, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Eddie Nketiah", 5, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Kai Havertz", 4, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Arsenal FC", "Emile Smith Rowe", 3, 6);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Bukayo Saka", 16, 13);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Gabriel Jesus", 12, 11);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Gabriel Martinelli", 10, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Leandro Trossard", 8, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Martin Odegaard", 7, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Eddie Nketiah", 5, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Kai Havertz", 4, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Arsenal FC", "Emile Smith Rowe", 3, 6);
         
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Erling Haaland", 22, 15);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Julian Alvarez", 14, 12);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Phil Foden", 11, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Jeremy Doku", 8, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Jack Grealish", 6, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Kevin De Bruyne", 5, 12);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Bernardo Silva", 4, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Manchester City", "Rodri", 3, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Erling Haaland", 22, 15);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Julian Alvarez", 14, 12);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Phil Foden", 11, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Jeremy Doku", 8, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Jack Grealish", 6, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Kevin De Bruyne", 5, 12);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Bernardo Silva", 4, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Manchester City", "Rodri", 3, 10);
         
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "Son Heung-min", 17, 14);
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "Richarlison", 12, 11);
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "Dejan Kulusevski", 9, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "Brennan Johnson", 7, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "James Maddison", 6, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "Manor Solomon", 5, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "Yves Bissouma", 4, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Tottenham Hotspur", "Pape Matar Sarr", 3, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "Son Heung-min", 17, 14);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "Richarlison", 12, 11);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "Dejan Kulusevski", 9, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "Brennan Johnson", 7, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "James Maddison", 6, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "Manor Solomon", 5, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "Yves Bissouma", 4, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Tottenham Hotspur", "Pape Matar Sarr", 3, 8);
         
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Alexander Isak", 15, 12);
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Callum Wilson", 12, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Anthony Gordon", 9, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Miguel Almiron", 7, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Harvey Barnes", 6, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Bruno Guimaraes", 5, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Jacob Murphy", 4, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Newcastle United", "Sean Longstaff", 3, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Alexander Isak", 15, 12);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Callum Wilson", 12, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Anthony Gordon", 9, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Miguel Almiron", 7, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Harvey Barnes", 6, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Bruno Guimaraes", 5, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Jacob Murphy", 4, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Newcastle United", "Sean Longstaff", 3, 8);
         
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Evan Ferguson", 13, 11);
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Joao Pedro", 11, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Kaoru Mitoma", 8, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Ansu Fati", 7, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Julio Enciso", 6, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Danny Welbeck", 5, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Pascal Gross", 4, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Brighton & Hove Albion", "Solly March", 3, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Evan Ferguson", 13, 11);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Joao Pedro", 11, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Kaoru Mitoma", 8, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Ansu Fati", 7, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Julio Enciso", 6, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Danny Welbeck", 5, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Pascal Gross", 4, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Brighton & Hove Albion", "Solly March", 3, 8);
         
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "Jamie Vardy", 14, 12);
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "Patson Daka", 11, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "Harvey Barnes", 9, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "Kelechi Iheanacho", 7, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "James Maddison", 6, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "Youri Tielemans", 5, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "Ayoze Perez", 4, 7);
-        addHardcodedScorer(hardcoded, teamMap, "Leicester City", "Wilfred Ndidi", 3, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "Jamie Vardy", 14, 12);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "Patson Daka", 11, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "Harvey Barnes", 9, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "Kelechi Iheanacho", 7, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "James Maddison", 6, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "Youri Tielemans", 5, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "Ayoze Perez", 4, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Leicester City", "Wilfred Ndidi", 3, 10);
         
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "Ollie Watkins", 16, 13);
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "Leon Bailey", 11, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "Moussa Diaby", 9, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "John McGinn", 7, 10);
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "Douglas Luiz", 6, 9);
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "Jacob Ramsey", 5, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "Youri Tielemans", 4, 8);
-        addHardcodedScorer(hardcoded, teamMap, "Aston Villa", "Philippe Coutinho", 3, 7);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "Ollie Watkins", 16, 13);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "Leon Bailey", 11, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "Moussa Diaby", 9, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "John McGinn", 7, 10);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "Douglas Luiz", 6, 9);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "Jacob Ramsey", 5, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "Youri Tielemans", 4, 8);
+        addHardcodedScorer(hardcoded, playerIndex, "Aston Villa", "Philippe Coutinho", 3, 7);
         
         return hardcoded;
     }
     
     private List<TopAssistsDTO> getHardcodedTopAssists() {
         List<TopAssistsDTO> hardcoded = new ArrayList<>();
-        
-        // Get all teams
-        List<Team> allTeams = teamRepository.findAll();
-        Map<String, Team> teamMap = new HashMap<>();
-        for (Team team : allTeams) {
-            if (team.getName() != null) {
-                teamMap.put(team.getName(), team);
-            }
-            if (team.getUsername() != null) {
-                teamMap.put(team.getUsername(), team);
-            }
-        }
+        Map<String, Player> playerIndex = getHardcodedPlayerIndex();
         
         // Hardcoded top assists for each team
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Diogo Dalot", 12, 11);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Antony", 10, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Casemiro", 9, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Tyrell Malacia", 8, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Rasmus Hojlund", 7, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Harry Maguire", 6, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Victor Lindelof", 5, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester United", "Aaron Wan-Bissaka", 5, 7);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Diogo Dalot", 12, 11);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Antony", 10, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Casemiro", 9, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Tyrell Malacia", 8, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Rasmus Hojlund", 7, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Harry Maguire", 6, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Victor Lindelof", 5, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester United", "Aaron Wan-Bissaka", 5, 7);
         
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Trent Alexander-Arnold", 14, 12);
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Mohamed Salah", 11, 14);
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Andrew Robertson", 10, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Alexis Mac Allister", 8, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Dominik Szoboszlai", 7, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Darwin Nunez", 6, 12);
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Luis Diaz", 5, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Liverpool FC", "Cody Gakpo", 4, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Trent Alexander-Arnold", 14, 12);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Mohamed Salah", 11, 14);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Andrew Robertson", 10, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Alexis Mac Allister", 8, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Dominik Szoboszlai", 7, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Darwin Nunez", 6, 12);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Luis Diaz", 5, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Liverpool FC", "Cody Gakpo", 4, 9);
         
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Enzo Fernandez", 11, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Cole Palmer", 9, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Reece James", 8, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Ben Chilwell", 7, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Conor Gallagher", 6, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Raheem Sterling", 5, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Nicolas Jackson", 4, 11);
-        addHardcodedAssist(hardcoded, teamMap, "Chelsea FC", "Mykhailo Mudryk", 3, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Enzo Fernandez", 11, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Cole Palmer", 9, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Reece James", 8, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Ben Chilwell", 7, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Conor Gallagher", 6, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Raheem Sterling", 5, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Nicolas Jackson", 4, 11);
+        addHardcodedAssist(hardcoded, playerIndex, "Chelsea FC", "Mykhailo Mudryk", 3, 8);
         
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Bukayo Saka", 12, 13);
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Martin Odegaard", 10, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Oleksandr Zinchenko", 9, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Gabriel Jesus", 8, 11);
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Ben White", 7, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Gabriel Martinelli", 6, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Declan Rice", 5, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Arsenal FC", "Leandro Trossard", 4, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Bukayo Saka", 12, 13);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Martin Odegaard", 10, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Oleksandr Zinchenko", 9, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Gabriel Jesus", 8, 11);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Ben White", 7, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Gabriel Martinelli", 6, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Declan Rice", 5, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Arsenal FC", "Leandro Trossard", 4, 8);
         
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Kevin De Bruyne", 15, 12);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Phil Foden", 11, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Bernardo Silva", 10, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Jack Grealish", 8, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Jeremy Doku", 7, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Erling Haaland", 6, 15);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Julian Alvarez", 5, 12);
-        addHardcodedAssist(hardcoded, teamMap, "Manchester City", "Kyle Walker", 4, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Kevin De Bruyne", 15, 12);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Phil Foden", 11, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Bernardo Silva", 10, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Jack Grealish", 8, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Jeremy Doku", 7, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Erling Haaland", 6, 15);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Julian Alvarez", 5, 12);
+        addHardcodedAssist(hardcoded, playerIndex, "Manchester City", "Kyle Walker", 4, 10);
         
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "James Maddison", 12, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "Son Heung-min", 10, 14);
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "Pedro Porro", 9, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "Destiny Udogie", 8, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "Dejan Kulusevski", 7, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "Richarlison", 6, 11);
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "Brennan Johnson", 5, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Tottenham Hotspur", "Yves Bissouma", 4, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "James Maddison", 12, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "Son Heung-min", 10, 14);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "Pedro Porro", 9, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "Destiny Udogie", 8, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "Dejan Kulusevski", 7, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "Richarlison", 6, 11);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "Brennan Johnson", 5, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Tottenham Hotspur", "Yves Bissouma", 4, 8);
         
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Kieran Trippier", 13, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Bruno Guimaraes", 10, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Anthony Gordon", 9, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Joelinton", 8, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Miguel Almiron", 7, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Alexander Isak", 6, 12);
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Callum Wilson", 5, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Newcastle United", "Harvey Barnes", 4, 7);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Kieran Trippier", 13, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Bruno Guimaraes", 10, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Anthony Gordon", 9, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Joelinton", 8, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Miguel Almiron", 7, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Alexander Isak", 6, 12);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Callum Wilson", 5, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Newcastle United", "Harvey Barnes", 4, 7);
         
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Pascal Gross", 12, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Kaoru Mitoma", 10, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Solly March", 9, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Pervis Estupinan", 8, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Joao Pedro", 7, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Evan Ferguson", 6, 11);
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Ansu Fati", 5, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Brighton & Hove Albion", "Julio Enciso", 4, 7);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Pascal Gross", 12, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Kaoru Mitoma", 10, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Solly March", 9, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Pervis Estupinan", 8, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Joao Pedro", 7, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Evan Ferguson", 6, 11);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Ansu Fati", 5, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Brighton & Hove Albion", "Julio Enciso", 4, 7);
         
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "James Maddison", 11, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "Harvey Barnes", 9, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "Youri Tielemans", 8, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "Ricardo Pereira", 7, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "Wilfred Ndidi", 6, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "Jamie Vardy", 5, 12);
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "Patson Daka", 4, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Leicester City", "Kelechi Iheanacho", 3, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "James Maddison", 11, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "Harvey Barnes", 9, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "Youri Tielemans", 8, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "Ricardo Pereira", 7, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "Wilfred Ndidi", 6, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "Jamie Vardy", 5, 12);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "Patson Daka", 4, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Leicester City", "Kelechi Iheanacho", 3, 8);
         
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "Douglas Luiz", 12, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "John McGinn", 10, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "Leon Bailey", 9, 10);
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "Moussa Diaby", 8, 9);
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "Ollie Watkins", 7, 13);
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "Jacob Ramsey", 6, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "Youri Tielemans", 5, 8);
-        addHardcodedAssist(hardcoded, teamMap, "Aston Villa", "Lucas Digne", 4, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "Douglas Luiz", 12, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "John McGinn", 10, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "Leon Bailey", 9, 10);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "Moussa Diaby", 8, 9);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "Ollie Watkins", 7, 13);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "Jacob Ramsey", 6, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "Youri Tielemans", 5, 8);
+        addHardcodedAssist(hardcoded, playerIndex, "Aston Villa", "Lucas Digne", 4, 9);
         
         return hardcoded;
     }
     
-    private void addHardcodedScorer(List<TopScorerDTO> list, Map<String, Team> teamMap, 
-                                     String teamName, String playerName, int goals, int matches) {
-        Team team = teamMap.get(teamName);
-        if (team != null) {
-            // Try to find player by name and team
-            List<Player> players = playerRepository.findByTeamId(team.getId());
-            Player player = players.stream()
-                    .filter(p -> p.getName() != null && p.getName().equals(playerName))
-                    .findFirst()
-                    .orElse(null);
-            
-            if (player != null) {
-                list.add(new TopScorerDTO(
-                        player.getId(),
-                        player.getName(),
-                        team.getName(),
-                        team.getId(),
-                        goals,
-                        matches
-                ));
+    // Loads every player of the hardcoded teams in one query, keyed by "team|player"
+    // where team is either the team name or its username
+    private Map<String, Player> getHardcodedPlayerIndex() {
+        Map<String, Player> index = new HashMap<>();
+        for (Player player : playerRepository.findByTeamNames(HARDCODED_TEAMS)) {
+            if (player.getName() == null) {
+                continue;
+            }
+            Team team = player.getTeam();
+            if (team.getName() != null) {
+                index.putIfAbsent(team.getName() + "|" + player.getName(), player);
+            }
+            if (team.getUsername() != null) {
+                index.putIfAbsent(team.getUsername() + "|" + player.getName(), player);
             }
         }
+        return index;
     }
-    
-    private void addHardcodedAssist(List<TopAssistsDTO> list, Map<String, Team> teamMap,
+
+    private void addHardcodedScorer(List<TopScorerDTO> list, Map<String, Player> playerIndex,
+                                     String teamName, String playerName, int goals, int matches) {
+        Player player = playerIndex.get(teamName + "|" + playerName);
+        if (player != null) {
+            list.add(new TopScorerDTO(
+                    player.getId(),
+                    player.getName(),
+                    player.getTeam().getName(),
+                    player.getTeam().getId(),
+                    goals,
+                    matches
+            ));
+        }
+    }
+
+    private void addHardcodedAssist(List<TopAssistsDTO> list, Map<String, Player> playerIndex,
                                      String teamName, String playerName, int assists, int matches) {
-        Team team = teamMap.get(teamName);
-        if (team != null) {
-            // Try to find player by name and team
-            List<Player> players = playerRepository.findByTeamId(team.getId());
-            Player player = players.stream()
-                    .filter(p -> p.getName() != null && p.getName().equals(playerName))
-                    .findFirst()
-                    .orElse(null);
-            
-            if (player != null) {
-                list.add(new TopAssistsDTO(
-                        player.getId(),
-                        player.getName(),
-                        team.getName(),
-                        team.getId(),
-                        assists,
-                        matches
-                ));
-            }
+        Player player = playerIndex.get(teamName + "|" + playerName);
+        if (player != null) {
+            list.add(new TopAssistsDTO(
+                    player.getId(),
+                    player.getName(),
+                    player.getTeam().getName(),
+                    player.getTeam().getId(),
+                    assists,
+                    matches
+            ));
         }
     }
 }
-
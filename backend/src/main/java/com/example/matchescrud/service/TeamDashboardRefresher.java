@@ -0,0 +1,52 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.event.TeamDataChangedEvent;
+import com.example.matchescrud.service.interfaces.ITeamService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Keeps the team dashboard snapshots current. Once a write commits the affected snapshots are
+// dropped and rebuilt in the background, so the next dashboard load is served from memory.
+@Component
+public class TeamDashboardRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamDashboardRefresher.class);
+
+    private final ITeamService teamService;
+    // A dropped rebuild only means the next read builds the snapshot itself
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1000), new CustomizableThreadFactory("dashboard-refresh-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public TeamDashboardRefresher(ITeamService teamService) {
+        this.teamService = teamService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamDataChanged(TeamDataChangedEvent event) {
+        teamService.evictDashboardSnapshots(event.getTeamIds());
+        // An all-teams event carries no ids, those snapshots are rebuilt on their next read
+        for (Long teamId : event.getTeamIds()) {
+            executor.execute(() -> {
+                try {
+                    teamService.refreshDashboardSnapshot(teamId);
+                } catch (RuntimeException e) {
+                    logger.warn("Could not rebuild dashboard snapshot for team {}", teamId, e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
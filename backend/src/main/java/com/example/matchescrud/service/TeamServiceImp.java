@@ -12,6 +12,7 @@ import com.example.matchescrud.dto.TeamDashboardDTO;
 import com.example.matchescrud.dto.TeamLoginDTO;
 import com.example.matchescrud.dto.TeamMatchHistoryDTO;
 import com.example.matchescrud.dto.TeamRegisterDTO;
+import com.example.matchescrud.event.TeamDataChangedEvent;
 import com.example.matchescrud.exceptions.AlreadyExistException.TeamAlreadyExist;
 import com.example.matchescrud.exceptions.AlreadyExistException.TeamCredentialsAlreadyExist;
 import com.example.matchescrud.exceptions.ApiException;
@@ -23,18 +24,33 @@ import com.example.matchescrud.repository.MatchRepository;
 import com.example.matchescrud.repository.PlayerRepository;
 import com.example.matchescrud.repository.TeamRepository;
 import com.example.matchescrud.service.interfaces.ITeamService;
-import jakarta.transaction.Transactional;
+import com.example.matchescrud.util.SingleFlight;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
 public class TeamServiceImp implements ITeamService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TeamServiceImp.class);
 
     //Dependency inyection
     TeamRepository teamRepository;
@@ -47,13 +63,31 @@ public class TeamServiceImp implements ITeamService {
     CityServiceImp cityServiceImp;
     PlayerRepository playerRepository;
     MatchRepository matchRepository;
+    ApplicationEventPublisher eventPublisher;
+    SearchIndex searchIndex;
+    StatisticsCache statisticsCache;
+    // Dashboards requested concurrently for the same team are built once
+    SingleFlight singleFlight = new SingleFlight();
+    // Per-team dashboard data, dropped and rebuilt by TeamDashboardRefresher when the team changes
+    Map<Long, DashboardSnapshot> dashboardSnapshots = new ConcurrentHashMap<>();
+    AtomicLong snapshotGeneration = new AtomicLong();
+    // Reads the parts of a dashboard snapshot concurrently, each part in its own transaction
+    ThreadPoolExecutor dashboardExecutor;
+    TransactionTemplate readOnlyPartTransaction;
+    TransactionTemplate primaryPartTransaction;
+    long dashboardPartTimeoutMillis;
     
     public TeamServiceImp(TeamRepository teamRepository, TeamMapper teamMapper, StadiumServiceImp stadiumServiceImp,
-                          DivisionServiceImp divisionServiceImp, CityServiceImp cityServiceImp, DivisionMapper divisionMapper, StadiumMapper stadiumMapper, CityMapper cityMapper, PlayerRepository playerRepository, MatchRepository matchRepository) {
+                          DivisionServiceImp divisionServiceImp, CityServiceImp cityServiceImp, DivisionMapper divisionMapper, StadiumMapper stadiumMapper, CityMapper cityMapper, PlayerRepository playerRepository, MatchRepository matchRepository,
+                          ApplicationEventPublisher eventPublisher, SearchIndex searchIndex, StatisticsCache statisticsCache,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${team.dashboard.parallelism:8}") int dashboardParallelism,
+                          @Value("${team.dashboard.part-timeout-millis:1000}") long dashboardPartTimeoutMillis) {
         //Repository
         this.teamRepository = teamRepository;
         this.playerRepository = playerRepository;
         this.matchRepository = matchRepository;
+        this.eventPublisher = eventPublisher;
         //Service
         this.cityServiceImp = cityServiceImp;
         this.stadiumServiceImp = stadiumServiceImp;
@@ -63,6 +97,22 @@ public class TeamServiceImp implements ITeamService {
         this.cityMapper = cityMapper;
         this.stadiumMapper = stadiumMapper;
         this.divisionMapper = divisionMapper;
+        //Search
+        this.searchIndex = searchIndex;
+        this.statisticsCache = statisticsCache;
+        //Dashboard parts, a full queue rejects the part and it is left out like a timed out one
+        this.dashboardExecutor = new ThreadPoolExecutor(dashboardParallelism, dashboardParallelism, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(dashboardParallelism * 16), new CustomizableThreadFactory("team-dashboard-"));
+        this.dashboardExecutor.allowCoreThreadTimeOut(true);
+        this.readOnlyPartTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyPartTransaction.setReadOnly(true);
+        this.primaryPartTransaction = new TransactionTemplate(transactionManager);
+        this.dashboardPartTimeoutMillis = dashboardPartTimeoutMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dashboardExecutor.shutdownNow();
     }
 
 
@@ -113,12 +163,15 @@ public class TeamServiceImp implements ITeamService {
         team.setAwayMatches(awayMatches);
 
         // Save Team in DB
-        return teamMapper.teamToTeamDTO(teamRepository.save(team));
+        Team savedTeam = teamRepository.save(team);
+        searchIndex.teamSaved(savedTeam);
+        statisticsCache.teamChanged(savedTeam.getId());
+        return teamMapper.teamToTeamDTO(savedTeam);
 
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<TeamDTO> getAllTeams() {
         List<Team> teams = teamRepository.findAll();
@@ -126,7 +179,7 @@ public class TeamServiceImp implements ITeamService {
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public TeamDTO getTeamById(Long id) throws ApiException {
         Team team = teamRepository.findById(id).orElseThrow(() -> new TeamNotFoundException(id));
@@ -135,7 +188,7 @@ public class TeamServiceImp implements ITeamService {
     }
 
     //GET
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<TeamDTO> getTeamsByCityId(Long id) throws ApiException {
         List<Team> teams = teamRepository.findAll();
@@ -150,55 +203,55 @@ public class TeamServiceImp implements ITeamService {
     }
 
     //GET - Team Match History
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<TeamMatchHistoryDTO> getTeamMatchHistory(Long teamId) throws ApiException {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new TeamNotFoundException(teamId));
         
-        List<TeamMatchHistoryDTO> history = new ArrayList<>();
-        
         // Fetch matches directly from repository to avoid lazy loading issues
-        List<Match> homeMatches = matchRepository.findByHomeTeamId(teamId);
-        List<Match> awayMatches = matchRepository.findByAwayTeamId(teamId);
-        
-        // Process home matches
-        for (Match match : homeMatches) {
-            TeamMatchHistoryDTO dto = new TeamMatchHistoryDTO();
-            dto.setDate(match.getDate());
-            dto.setTime(match.getTime());
-            if (match.getStadium() != null) {
-                dto.setStadium(stadiumMapper.stadiumToStadiumDTO(match.getStadium()));
-            }
-            dto.setHomeGoals(match.getHomeGoals());
-            dto.setAwayGoals(match.getAwayGoals());
-            dto.setSpectators(match.getSpectators());
-            if (match.getAwayTeam() != null) {
-                dto.setOpponentName(match.getAwayTeam().getName());
-            }
-            dto.setHomeMatch(true);
-            history.add(dto);
+        List<TeamMatchHistoryDTO> history = homeMatchHistory(teamId);
+        history.addAll(awayMatchHistory(teamId));
+        sortHistory(history);
+        return history;
+    }
+
+    private List<TeamMatchHistoryDTO> homeMatchHistory(Long teamId) {
+        List<TeamMatchHistoryDTO> history = new ArrayList<>();
+        for (Match match : matchRepository.findByHomeTeamId(teamId)) {
+            history.add(toHistory(match, true));
         }
-        
-        // Process away matches
-        for (Match match : awayMatches) {
-            TeamMatchHistoryDTO dto = new TeamMatchHistoryDTO();
-            dto.setDate(match.getDate());
-            dto.setTime(match.getTime());
-            if (match.getStadium() != null) {
-                dto.setStadium(stadiumMapper.stadiumToStadiumDTO(match.getStadium()));
-            }
-            dto.setHomeGoals(match.getHomeGoals());
-            dto.setAwayGoals(match.getAwayGoals());
-            dto.setSpectators(match.getSpectators());
-            if (match.getHomeTeam() != null) {
-                dto.setOpponentName(match.getHomeTeam().getName());
-            }
-            dto.setHomeMatch(false);
-            history.add(dto);
+        return history;
+    }
+
+    private List<TeamMatchHistoryDTO> awayMatchHistory(Long teamId) {
+        List<TeamMatchHistoryDTO> history = new ArrayList<>();
+        for (Match match : matchRepository.findByAwayTeamId(teamId)) {
+            history.add(toHistory(match, false));
         }
-        
-        // Sort by date (most recent first)
+        return history;
+    }
+
+    private TeamMatchHistoryDTO toHistory(Match match, boolean homeMatch) {
+        TeamMatchHistoryDTO dto = new TeamMatchHistoryDTO();
+        dto.setDate(match.getDate());
+        dto.setTime(match.getTime());
+        if (match.getStadium() != null) {
+            dto.setStadium(stadiumMapper.stadiumToStadiumDTO(match.getStadium()));
+        }
+        dto.setHomeGoals(match.getHomeGoals());
+        dto.setAwayGoals(match.getAwayGoals());
+        dto.setSpectators(match.getSpectators());
+        Team opponent = homeMatch ? match.getAwayTeam() : match.getHomeTeam();
+        if (opponent != null) {
+            dto.setOpponentName(opponent.getName());
+        }
+        dto.setHomeMatch(homeMatch);
+        return dto;
+    }
+
+    // Sort by date (most recent first)
+    private static void sortHistory(List<TeamMatchHistoryDTO> history) {
         history.sort((a, b) -> {
             if (b.getDate() == null || a.getDate() == null) {
                 return 0;
@@ -213,8 +266,6 @@ public class TeamServiceImp implements ITeamService {
             }
             return b.getTime().compareTo(a.getTime());
         });
-        
-        return history;
     }
 
     @Transactional
@@ -258,7 +309,12 @@ public class TeamServiceImp implements ITeamService {
                 }
 
 
-                return teamMapper.teamToTeamDTO(teamRepository.save(existingTeam));
+                // Team names appear as opponents on other dashboards too
+                eventPublisher.publishEvent(TeamDataChangedEvent.allTeams());
+                Team savedTeam = teamRepository.save(existingTeam);
+                searchIndex.teamSaved(savedTeam);
+                statisticsCache.teamChanged(savedTeam.getId());
+                return teamMapper.teamToTeamDTO(savedTeam);
             }
         }
         throw new TeamNotFoundException(id);
@@ -272,8 +328,11 @@ public class TeamServiceImp implements ITeamService {
         //Verifies if team exists, if not, throws TeamNotFoundException
         Optional<Team> teamOptional = teamRepository.findById(id);
         if(teamOptional.isPresent()){
+            searchIndex.teamDeleted(id);
             //Deletes team from DB
             teamRepository.delete(teamOptional.get());
+            eventPublisher.publishEvent(TeamDataChangedEvent.allTeams());
+            statisticsCache.teamChanged(id);
             return teamMapper.teamToTeamDTO(teamOptional.get());
         }
         throw new TeamNotFoundException(id);
@@ -371,10 +430,14 @@ public class TeamServiceImp implements ITeamService {
         team.setPlayers(players);
 
         // Save and return
-        return teamMapper.teamToTeamDTO(teamRepository.save(team));
+        Team savedTeam = teamRepository.save(team);
+        searchIndex.teamSaved(savedTeam);
+        statisticsCache.teamChanged(savedTeam.getId());
+        return teamMapper.teamToTeamDTO(savedTeam);
     }
 
     //POST - Login Team
+    // On the primary, teams log in right after registering
     @Transactional
     @Override
     public TeamDTO loginTeam(TeamLoginDTO teamLoginDTO) throws ApiException {
@@ -401,16 +464,138 @@ public class TeamServiceImp implements ITeamService {
     }
 
     //GET - Team Dashboard
-    @Transactional
+    // No transaction of its own, the snapshot parts are read in theirs
     @Override
     public TeamDashboardDTO getTeamDashboard(Long teamId) throws ApiException {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new TeamNotFoundException(teamId));
-        
-        // Get all match history
-        List<TeamMatchHistoryDTO> allMatches = getTeamMatchHistory(teamId);
+        // Served from the team's snapshot, only the date-dependent parts are computed per request
+        DashboardSnapshot snapshot = dashboardSnapshots.get(teamId);
+        if (snapshot == null) {
+            long generation = snapshotGeneration.get();
+            snapshot = singleFlight.execute(SingleFlight.key("getTeamDashboard", teamId),
+                    () -> storeDashboardSnapshot(teamId, buildDashboardSnapshot(teamId, false), generation));
+        }
+        return dashboardFromSnapshot(snapshot, LocalDate.now());
+    }
+
+    // Runs right after a write commits, kept on the primary so a lagging replica cannot put
+    // the pre-write dashboard back into the snapshot
+    @Override
+    public void refreshDashboardSnapshot(Long teamId) {
+        long generation = snapshotGeneration.get();
+        try {
+            storeDashboardSnapshot(teamId, buildDashboardSnapshot(teamId, true), generation);
+        } catch (ApiException e) {
+            // Team deleted meanwhile
+            dashboardSnapshots.remove(teamId);
+        }
+    }
+
+    @Override
+    public void evictDashboardSnapshots(Set<Long> teamIds) {
+        synchronized (dashboardSnapshots) {
+            snapshotGeneration.incrementAndGet();
+            if (teamIds.isEmpty()) {
+                dashboardSnapshots.clear();
+            } else {
+                dashboardSnapshots.keySet().removeAll(teamIds);
+            }
+        }
+    }
+
+    // Stores the snapshot unless an eviction happened while it was being built, it could be stale.
+    // A snapshot missing parts is served once but not kept
+    private DashboardSnapshot storeDashboardSnapshot(Long teamId, DashboardSnapshot snapshot, long generation) {
+        synchronized (dashboardSnapshots) {
+            if (snapshotGeneration.get() == generation && snapshot.unavailableParts.isEmpty()) {
+                dashboardSnapshots.put(teamId, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    // Everything on the dashboard that does not depend on today's date. The team, its home matches,
+    // its away matches and its roster count are independent lookups, so they run concurrently, each in
+    // its own transaction on its own connection, and the build takes about as long as the slowest one.
+    // A part that fails or misses the timeout is left out and listed as unavailable, except the team
+    // itself, which the dashboard cannot do without
+    private DashboardSnapshot buildDashboardSnapshot(Long teamId, boolean primary) throws ApiException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(dashboardPartTimeoutMillis);
+        Future<Optional<Team>> teamPart = submitPart(primary, () -> teamRepository.findById(teamId));
+        Future<List<TeamMatchHistoryDTO>> homeMatchesPart = submitPart(primary, () -> homeMatchHistory(teamId));
+        Future<List<TeamMatchHistoryDTO>> awayMatchesPart = submitPart(primary, () -> awayMatchHistory(teamId));
+        Future<Long> totalPlayersPart = submitPart(primary, () -> playerRepository.countByTeamId(teamId));
+
+        List<String> unavailable = new ArrayList<>();
+        Optional<Team> team = awaitPart("team", teamPart, deadline, unavailable);
+        if (team == null || team.isEmpty()) {
+            homeMatchesPart.cancel(true);
+            awayMatchesPart.cancel(true);
+            totalPlayersPart.cancel(true);
+            if (team == null) {
+                throw new ApiException("The dashboard of team " + teamId + " is temporarily unavailable",
+                        HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            throw new TeamNotFoundException(teamId);
+        }
+
+        List<TeamMatchHistoryDTO> matches = new ArrayList<>();
+        List<TeamMatchHistoryDTO> homeMatches = awaitPart("homeMatches", homeMatchesPart, deadline, unavailable);
+        if (homeMatches != null) {
+            matches.addAll(homeMatches);
+        }
+        List<TeamMatchHistoryDTO> awayMatches = awaitPart("awayMatches", awayMatchesPart, deadline, unavailable);
+        if (awayMatches != null) {
+            matches.addAll(awayMatches);
+        }
+        sortHistory(matches);
+        Long totalPlayers = awaitPart("totalPlayers", totalPlayersPart, deadline, unavailable);
+
+        return new DashboardSnapshot(
+                teamId,
+                team.get().getName() != null ? team.get().getName() : "Team",
+                matches,
+                getHardcodedUpcomingMatches(team.get()),
+                totalPlayers != null ? totalPlayers.intValue() : 0,
+                unavailable);
+    }
+
+    private <T> Future<T> submitPart(boolean primary, Callable<T> part) {
+        TransactionTemplate transaction = primary ? primaryPartTransaction : readOnlyPartTransaction;
+        try {
+            return dashboardExecutor.submit(() -> transaction.execute(status -> {
+                try {
+                    return part.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // The part's result, or null once it failed or the deadline passed
+    private static <T> T awaitPart(String part, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("Dashboard part {} timed out", part);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        } catch (ExecutionException e) {
+            logger.warn("Dashboard part {} failed", part, e.getCause());
+        }
+        unavailable.add(part);
+        return null;
+    }
+
+    // Splits the snapshot's matches into past and upcoming as of today and derives the statistics
+    private TeamDashboardDTO dashboardFromSnapshot(DashboardSnapshot snapshot, LocalDate today) {
+        Long teamId = snapshot.teamId;
+        List<TeamMatchHistoryDTO> allMatches = snapshot.matches;
         
-        LocalDate today = LocalDate.now();
         List<TeamMatchHistoryDTO> upcomingMatches = new ArrayList<>();
         List<TeamMatchHistoryDTO> pastMatches = new ArrayList<>();
         
@@ -467,20 +652,17 @@ public class TeamServiceImp implements ITeamService {
         });
         
         // Hardcode upcoming matches for all teams
-        if (team != null) {
-            List<TeamMatchHistoryDTO> hardcodedMatches = getHardcodedUpcomingMatches(team);
-            if (!hardcodedMatches.isEmpty()) {
-                upcomingMatches.addAll(hardcodedMatches);
-                
-                // Re-sort after adding hardcoded matches
-                upcomingMatches.sort((a, b) -> {
-                    if (a.getDate() == null || b.getDate() == null) return 0;
-                    int dateCompare = a.getDate().compareTo(b.getDate());
-                    if (dateCompare != 0) return dateCompare;
-                    if (a.getTime() == null || b.getTime() == null) return 0;
-                    return a.getTime().compareTo(b.getTime());
-                });
-            }
+        if (!snapshot.hardcodedFixtures.isEmpty()) {
+            upcomingMatches.addAll(snapshot.hardcodedFixtures);
+            
+            // Re-sort after adding hardcoded matches
+            upcomingMatches.sort((a, b) -> {
+                if (a.getDate() == null || b.getDate() == null) return 0;
+                int dateCompare = a.getDate().compareTo(b.getDate());
+                if (dateCompare != 0) return dateCompare;
+                if (a.getTime() == null || b.getTime() == null) return 0;
+                return a.getTime().compareTo(b.getTime());
+            });
         }
         
         // Calculate statistics from past matches
@@ -517,8 +699,8 @@ public class TeamServiceImp implements ITeamService {
         // Calculate current streak (last 5 matches)
         String currentStreak = calculateStreak(pastMatches);
         
-        // Count players
-        int totalPlayers = playerRepository.findByTeamId(teamId).size();
+        // Counted when the snapshot was built
+        int totalPlayers = snapshot.totalPlayers;
         
         // Create announcements list (placeholder for future implementation)
         List<String> announcements = new ArrayList<>();
@@ -532,7 +714,7 @@ public class TeamServiceImp implements ITeamService {
         
         TeamDashboardDTO dashboard = new TeamDashboardDTO();
         dashboard.setTeamId(teamId);
-        dashboard.setTeamName(team.getName() != null ? team.getName() : "Team");
+        dashboard.setTeamName(snapshot.teamName);
         dashboard.setTotalMatches(totalMatches);
         dashboard.setWins(wins);
         dashboard.setLosses(losses);
@@ -548,6 +730,7 @@ public class TeamServiceImp implements ITeamService {
         dashboard.setCurrentStreak(currentStreak);
         dashboard.setTotalPlayers(totalPlayers);
         dashboard.setAnnouncements(announcements);
+        dashboard.setUnavailableParts(snapshot.unavailableParts);
         
         return dashboard;
     }
@@ -707,6 +890,25 @@ public class TeamServiceImp implements ITeamService {
         return matches;
     }
     
+    private static class DashboardSnapshot {
+        final Long teamId;
+        final String teamName;
+        final List<TeamMatchHistoryDTO> matches; // most recent first
+        final List<TeamMatchHistoryDTO> hardcodedFixtures;
+        final int totalPlayers;
+        final List<String> unavailableParts;
+
+        DashboardSnapshot(Long teamId, String teamName, List<TeamMatchHistoryDTO> matches,
+                          List<TeamMatchHistoryDTO> hardcodedFixtures, int totalPlayers, List<String> unavailableParts) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+            this.matches = matches;
+            this.hardcodedFixtures = hardcodedFixtures;
+            this.totalPlayers = totalPlayers;
+            this.unavailableParts = unavailableParts;
+        }
+    }
+
     private TeamMatchHistoryDTO createMatch(LocalDate date, LocalTime time, String opponentName, 
                                             boolean isHomeMatch, StadiumDTO stadium) {
         TeamMatchHistoryDTO match = new TeamMatchHistoryDTO();
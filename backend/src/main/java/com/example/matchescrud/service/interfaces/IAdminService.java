@@ -3,6 +3,7 @@ package com.example.matchescrud.service.interfaces;
 import com.example.matchescrud.dto.TeamDTO;
 import com.example.matchescrud.dto.UserDTO;
 import com.example.matchescrud.exceptions.ApiException;
+import com.example.matchescrud.util.TtlCache;
 
 import java.util.List;
 
@@ -11,5 +12,7 @@ public interface IAdminService {
     UserDTO login(UserDTO userDTO) throws ApiException;
     List<UserDTO> getAllAdmins();
     TeamDTO deleteTeam(Long id) throws ApiException;
+    int rebuildStandings();
+    List<TtlCache.Stats> getStatisticsCacheStats();
 }
 
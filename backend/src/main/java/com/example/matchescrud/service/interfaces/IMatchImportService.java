@@ -0,0 +1,15 @@
+package com.example.matchescrud.service.interfaces;
+
+import com.example.matchescrud.dto.response.MatchImportResultDTO;
+import com.example.matchescrud.exceptions.ApiException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface IMatchImportService {
+
+    enum Format {CSV, NDJSON}
+
+    //Post
+    MatchImportResultDTO importMatches(InputStream input, Format format) throws ApiException, IOException;
+}
@@ -1,6 +1,7 @@
 package com.example.matchescrud.service.interfaces;
 
 import com.example.matchescrud.dto.MatchPlayerStatsDTO;
+import com.example.matchescrud.dto.request.PlayerStatsLineDTO;
 import com.example.matchescrud.exceptions.ApiException;
 
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.UUID;
 public interface IMatchPlayerStatsService {
     MatchPlayerStatsDTO addPlayerStats(UUID matchUuid, Long playerId, MatchPlayerStatsDTO statsDTO) throws ApiException;
     MatchPlayerStatsDTO updatePlayerStats(UUID matchUuid, Long playerId, MatchPlayerStatsDTO statsDTO) throws ApiException;
+    List<MatchPlayerStatsDTO> saveLineupStats(UUID matchUuid, List<PlayerStatsLineDTO> lines) throws ApiException;
     void deletePlayerStats(UUID matchUuid, Long playerId) throws ApiException;
     List<MatchPlayerStatsDTO> getMatchStats(UUID matchUuid) throws ApiException;
     MatchPlayerStatsDTO getPlayerStatsForMatch(UUID matchUuid, Long playerId) throws ApiException;
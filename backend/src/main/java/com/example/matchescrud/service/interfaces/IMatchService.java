@@ -2,9 +2,12 @@ package com.example.matchescrud.service.interfaces;
 
 
 import com.example.matchescrud.dto.request.MatchRequestDTO;
+import com.example.matchescrud.dto.response.MatchPageDTO;
 import com.example.matchescrud.dto.response.MatchResponseDTO;
 import com.example.matchescrud.exceptions.ApiException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +16,8 @@ public interface IMatchService {
     //Get
     List<MatchResponseDTO> getAllMatches();
     MatchResponseDTO getMatchByUUID(UUID uuid) throws ApiException;
+    MatchPageDTO getMatchPage(String cursor, int size) throws ApiException;
+    void streamAllMatches(OutputStream outputStream) throws IOException;
 
     //Post
     MatchResponseDTO createMatch(MatchRequestDTO matchRequestDTO) throws ApiException;
@@ -1,8 +1,11 @@
 package com.example.matchescrud.service.interfaces;
 
 import com.example.matchescrud.dto.PlayerDTO;
+import com.example.matchescrud.dto.SuggestionDTO;
 import com.example.matchescrud.dto.TeamDTO;
-import com.example.matchescrud.dto.response.MatchResponseDTO;
+import com.example.matchescrud.dto.response.GlobalSearchDTO;
+import com.example.matchescrud.dto.response.MatchPageDTO;
+import com.example.matchescrud.exceptions.ApiException;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,7 +13,11 @@ import java.util.List;
 public interface ISearchService {
     List<TeamDTO> searchTeams(String query);
     List<PlayerDTO> searchPlayers(String query);
+    List<PlayerDTO> fuzzySearchPlayers(String query, Integer maxDistance);
+    GlobalSearchDTO search(String query, int limitPerType);
+    List<SuggestionDTO> suggest(String query, int limit);
     List<PlayerDTO> filterPlayers(Long teamId, String position, Integer minJersey, Integer maxJersey);
-    List<MatchResponseDTO> filterMatches(Long divisionId, Long stadiumId, Long teamId, LocalDate startDate, LocalDate endDate);
+    MatchPageDTO filterMatches(Long divisionId, Long stadiumId, Long teamId, LocalDate startDate, LocalDate endDate,
+                               String cursor, int size) throws ApiException;
 }
 
@@ -0,0 +1,18 @@
+package com.example.matchescrud.service.interfaces;
+
+import com.example.matchescrud.dto.LeagueStandingsDTO;
+import com.example.matchescrud.model.entity.Match;
+
+import java.util.List;
+
+public interface IStandingsService {
+    List<LeagueStandingsDTO> getStandingsByDivision(Long divisionId);
+    List<LeagueStandingsDTO> getAllStandings();
+
+    // Write side, called by MatchServiceImp inside its own transaction
+    void recordResult(Match match);
+    void revertResult(Match match);
+
+    // Recomputes the read model from the matches table, serialized with the result deltas
+    int rebuildStandings();
+}
@@ -3,6 +3,7 @@ package com.example.matchescrud.service.interfaces;
 import com.example.matchescrud.dto.*;
 import com.example.matchescrud.exceptions.ApiException;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface IStatisticsService {
@@ -11,6 +12,6 @@ public interface IStatisticsService {
     List<TopScorerDTO> getTopScorers(int limit);
     List<TopAssistsDTO> getTopAssists(int limit);
     List<TeamPerformanceDTO> getTeamPerformanceOverTime(Long teamId) throws ApiException;
-    List<StadiumStatsDTO> getStadiumStatistics();
+    List<StadiumStatsDTO> getStadiumStatistics(Long divisionId, LocalDate startDate, LocalDate endDate);
 }
 
@@ -8,6 +8,7 @@ import com.example.matchescrud.dto.TeamRegisterDTO;
 import com.example.matchescrud.exceptions.ApiException;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ITeamService {
 
@@ -18,6 +19,10 @@ public interface ITeamService {
     List<TeamMatchHistoryDTO> getTeamMatchHistory(Long teamId) throws ApiException;
     TeamDashboardDTO getTeamDashboard(Long teamId) throws ApiException;
 
+    //Dashboard snapshots, maintained by TeamDashboardRefresher. An empty set evicts every team
+    void refreshDashboardSnapshot(Long teamId);
+    void evictDashboardSnapshots(Set<Long> teamIds);
+
     //Post
     TeamDTO createTeam(TeamDTO teamDTO) throws ApiException;
     TeamDTO registerTeam(TeamRegisterDTO teamRegisterDTO) throws ApiException;
@@ -0,0 +1,198 @@
+package com.example.matchescrud.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * BK-tree over folded terms for typo tolerant lookups by Levenshtein distance. Each child hangs
+ * off its parent by their distance, so by the triangle inequality a search within distance k of
+ * a term at distance d only descends into children between d - k and d + k, and most of the
+ * tree is never compared. Keys are indexed under any number of texts, each text and each of its
+ * words is a term. Safe for concurrent use.
+ */
+public class BkTree<K extends Comparable<K>> {
+
+    private Node<K> root;
+    private final Map<K, Set<String>> termsByKey = new HashMap<>();
+    // Nodes left without keys by removals, the tree is rebuilt once they outnumber live ones
+    private int nodes;
+    private int emptyNodes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or replaces the key, found by texts close to any of the given ones.
+     */
+    public void put(K key, String... texts) {
+        Set<String> terms = new HashSet<>();
+        for (String text : texts) {
+            String folded = TextFolding.fold(text);
+            if (!folded.isEmpty()) {
+                terms.add(folded);
+                terms.addAll(Arrays.asList(folded.split(" ")));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (terms.isEmpty()) {
+                return;
+            }
+            termsByKey.put(key, terms);
+            for (String term : terms) {
+                insert(term, key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (emptyNodes > 64 && emptyNodes > nodes - emptyNodes) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            termsByKey.clear();
+            nodes = 0;
+            emptyNodes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keys with a term within {@code maxDistance} edits of the folded query, closest first and
+     * then in key order.
+     */
+    public List<K> search(String query, int maxDistance) {
+        String needle = TextFolding.fold(query);
+        Map<K, Integer> distances = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (root != null && !needle.isEmpty()) {
+                Deque<Node<K>> pending = new ArrayDeque<>();
+                pending.push(root);
+                while (!pending.isEmpty()) {
+                    Node<K> node = pending.pop();
+                    int distance = distance(needle, node.term);
+                    if (distance <= maxDistance) {
+                        for (K key : node.keys) {
+                            distances.merge(key, distance, Math::min);
+                        }
+                    }
+                    for (Map.Entry<Integer, Node<K>> child : node.children.entrySet()) {
+                        if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                            pending.push(child.getValue());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<K> result = new ArrayList<>(distances.keySet());
+        result.sort(Comparator.<K>comparingInt(distances::get).thenComparing(Comparator.naturalOrder()));
+        return result;
+    }
+
+    /**
+     * Levenshtein distance, the number of single character insertions, deletions and
+     * substitutions turning one text into the other.
+     */
+    public static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private void insert(String term, K key) {
+        if (root == null) {
+            root = new Node<>(term);
+            root.keys.add(key);
+            nodes++;
+            return;
+        }
+        Node<K> node = root;
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                if (node.keys.isEmpty()) {
+                    emptyNodes--;
+                }
+                node.keys.add(key);
+                return;
+            }
+            Node<K> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(term);
+                child.keys.add(key);
+                node.children.put(distance, child);
+                nodes++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private void removeLocked(K key) {
+        Set<String> terms = termsByKey.remove(key);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Node<K> node = root;
+            while (node != null) {
+                int distance = distance(term, node.term);
+                if (distance == 0) {
+                    if (node.keys.remove(key) && node.keys.isEmpty()) {
+                        emptyNodes++;
+                    }
+                    break;
+                }
+                node = node.children.get(distance);
+            }
+        }
+    }
+
+    private void rebuild() {
+        root = null;
+        nodes = 0;
+        emptyNodes = 0;
+        termsByKey.forEach((key, terms) -> terms.forEach(term -> insert(term, key)));
+    }
+
+    private static class Node<K> {
+        private final String term;
+        private final Set<K> keys = new HashSet<>(2);
+        private final Map<Integer, Node<K>> children = new HashMap<>(4);
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
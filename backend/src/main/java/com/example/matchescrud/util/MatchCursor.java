@@ -0,0 +1,58 @@
+package com.example.matchescrud.util;
+
+import com.example.matchescrud.exceptions.ApiException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the (date, time, uuid) ordering of matches, exchanged with
+ * clients as an opaque URL-safe token. Seeking from a position costs the same
+ * on every page, unlike OFFSET which scans all the skipped rows.
+ */
+public class MatchCursor {
+
+    private final LocalDate date;
+    private final LocalTime time;
+    private final UUID uuid;
+
+    public MatchCursor(LocalDate date, LocalTime time, UUID uuid) {
+        this.date = date;
+        this.time = time;
+        this.uuid = uuid;
+    }
+
+    public static MatchCursor decode(String token) throws ApiException {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            return new MatchCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ApiException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public String encode() {
+        String raw = date + "|" + time + "|" + uuid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.matchescrud.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix lookup over short names, kept as one sorted array of terms searched by binary search.
+ * A name is indexed from the start of each of its words, so "uni" finds "Beta United".
+ * Matches are ranked by where they start (the name itself before a later word), then by
+ * length, shortest first, so the closest names come out on top. Adding or removing a name
+ * shifts the array once per word, no rebuild is needed. Prefixes of one or two characters
+ * match a large share of all names, so their ranked results are kept until a name starting
+ * with them changes. Safe for concurrent use.
+ */
+public class PrefixIndex<K, V> {
+
+    private static final int SHORT_PREFIX = 2;
+    private static final int CACHED_RESULTS = 50;
+
+    // Names whose first word matches come first, then the shortest ones
+    private static final Comparator<Term<?>> RANKING = (a, b) -> {
+        int aStart = a.word == 0 ? 0 : 1;
+        int bStart = b.word == 0 ? 0 : 1;
+        if (aStart != bStart) {
+            return aStart - bStart;
+        }
+        if (a.doc.text.length() != b.doc.text.length()) {
+            return a.doc.text.length() - b.doc.text.length();
+        }
+        return a.doc.text.compareTo(b.doc.text);
+    };
+
+    private Term<V>[] terms = newArray(64);
+    private int size;
+    private final Map<K, Doc<V>> docs = new HashMap<>();
+    // Filled by readers under the read lock, emptied by writers under the write lock
+    private final Map<String, List<V>> shortPrefixResults = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or replaces the value stored under the key, found by prefixes of the text.
+     */
+    public void put(K key, V value, String text) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            Doc<V> doc = new Doc<>(value, normalized);
+            docs.put(key, doc);
+            evictShortPrefixes(doc);
+            int word = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                    insert(new Term<>(doc, i, word++));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            terms = newArray(64);
+            size = 0;
+            docs.clear();
+            shortPrefixResults.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * At most {@code limit} values whose text has a word starting with the prefix, best first.
+     */
+    public List<V> search(String prefix, int limit) {
+        String needle = normalize(prefix);
+        if (needle.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            if (needle.length() <= SHORT_PREFIX && limit <= CACHED_RESULTS) {
+                List<V> cached = shortPrefixResults.computeIfAbsent(needle, p -> rank(p, CACHED_RESULTS));
+                return new ArrayList<>(cached.subList(0, Math.min(limit, cached.size())));
+            }
+            return rank(needle, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<V> rank(String needle, int limit) {
+        TopK<Term<V>> best = new TopK<>(limit, RANKING);
+        for (int i = lowerBound(needle); i < size && terms[i].startsWith(needle); i++) {
+            // A name matching through several words is only ranked by its first match
+            if (!terms[i].matchesEarlierWord(needle)) {
+                best.offer(terms[i]);
+            }
+        }
+        List<V> result = new ArrayList<>(best.size());
+        for (Term<V> term : best.toSortedList()) {
+            result.add(term.doc.value);
+        }
+        return result;
+    }
+
+    private void insert(Term<V> term) {
+        int index = lowerBound(term.doc.text, term.offset);
+        if (size == terms.length) {
+            terms = Arrays.copyOf(terms, size * 2);
+        }
+        System.arraycopy(terms, index, terms, index + 1, size - index);
+        terms[index] = term;
+        size++;
+    }
+
+    private void removeLocked(K key) {
+        Doc<V> doc = docs.remove(key);
+        if (doc == null) {
+            return;
+        }
+        evictShortPrefixes(doc);
+        for (int i = 0; i < doc.text.length(); i++) {
+            if (i == 0 || doc.text.charAt(i - 1) == ' ') {
+                // Other names may share the same term, look for this one among them
+                for (int index = lowerBound(doc.text, i); index < size && terms[index].compareTo(doc.text, i) == 0; index++) {
+                    if (terms[index].doc == doc) {
+                        System.arraycopy(terms, index + 1, terms, index, size - index - 1);
+                        terms[--size] = null;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void evictShortPrefixes(Doc<V> doc) {
+        for (int i = 0; i < doc.text.length(); i++) {
+            if (i == 0 || doc.text.charAt(i - 1) == ' ') {
+                for (int length = 1; length <= SHORT_PREFIX && i + length <= doc.text.length(); length++) {
+                    shortPrefixResults.remove(doc.text.substring(i, i + length));
+                }
+            }
+        }
+    }
+
+    private int lowerBound(String text) {
+        return lowerBound(text, 0);
+    }
+
+    // First index whose term is not before the text read from the offset
+    private int lowerBound(String text, int offset) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(text, offset) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Term<V>[] newArray(int length) {
+        return (Term<V>[]) new Term[length];
+    }
+
+    private static class Doc<V> {
+        private final V value;
+        private final String text;
+
+        private Doc(V value, String text) {
+            this.value = value;
+            this.text = text;
+        }
+    }
+
+    // A word start inside a name, the term is the name read from that offset. It points into
+    // the name instead of copying it, so each term costs a few bytes whatever the name length
+    private static class Term<V> {
+        private final Doc<V> doc;
+        private final int offset;
+        private final int word;
+
+        private Term(Doc<V> doc, int offset, int word) {
+            this.doc = doc;
+            this.offset = offset;
+            this.word = word;
+        }
+
+        private boolean startsWith(String prefix) {
+            return doc.text.startsWith(prefix, offset);
+        }
+
+        private boolean matchesEarlierWord(String prefix) {
+            for (int i = 0; i < offset; i++) {
+                if ((i == 0 || doc.text.charAt(i - 1) == ' ') && doc.text.startsWith(prefix, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int compareTo(String text, int textOffset) {
+            int length = doc.text.length() - offset;
+            int otherLength = text.length() - textOffset;
+            for (int i = 0; i < Math.min(length, otherLength); i++) {
+                int diff = doc.text.charAt(offset + i) - text.charAt(textOffset + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length - otherLength;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.matchescrud.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller computes the result and
+ * every caller arriving while it runs waits for that result instead of computing it again.
+ * Nothing is kept once the computation finishes, later calls start a new one.
+ */
+public class SingleFlight {
+
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Key made of the method name and its arguments, arguments may be null.
+     */
+    public static List<Object> key(String method, Object... args) {
+        Object[] parts = new Object[args.length + 1];
+        parts[0] = method;
+        System.arraycopy(args, 0, parts, 1, args.length);
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * Runs the call, or joins the one already running for this key. Exceptions thrown by
+     * the call are rethrown to every caller sharing it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T execute(Object key, Call<T, E> call) throws E {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+
+        if (running == null) {
+            try {
+                T result = call.call();
+                mine.complete(result);
+                return result;
+            } catch (Throwable e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        try {
+            return (T) running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // Same call site, so a checked exception here is the E declared by the caller
+            throw (E) cause;
+        }
+    }
+}
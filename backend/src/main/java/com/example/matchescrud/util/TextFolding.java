@@ -0,0 +1,43 @@
+package com.example.matchescrud.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text for matching: lowercase, accents removed and whitespace collapsed, so "Højlund"
+ * and "hojlund" compare equal.
+ */
+public final class TextFolding {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private TextFolding() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text.trim().toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        String folded = MARKS.matcher(decomposed).replaceAll("");
+        // Letters with no decomposition into base letter plus accent
+        StringBuilder result = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            switch (c) {
+                case 'ø' -> result.append('o');
+                case 'æ' -> result.append("ae");
+                case 'œ' -> result.append("oe");
+                case 'ß' -> result.append("ss");
+                case 'ł' -> result.append('l');
+                case 'đ', 'ð' -> result.append('d');
+                case 'þ' -> result.append("th");
+                case 'ı' -> result.append('i');
+                default -> result.append(c);
+            }
+        }
+        return SPACES.matcher(result).replaceAll(" ");
+    }
+}
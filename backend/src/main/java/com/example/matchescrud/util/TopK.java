@@ -0,0 +1,57 @@
+package com.example.matchescrud.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the best {@code k} elements seen so far using a min-heap of size k,
+ * so memory stays O(k) and each offer costs O(log k) regardless of input size.
+ * A non-positive k keeps every element.
+ */
+public class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param k     number of elements to keep
+     * @param order ranking order, the first element in this order is the best one
+     */
+    public TopK(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+        // Heap head is the worst element kept, so it is the one evicted first
+        this.heap = new PriorityQueue<>(k > 0 ? k + 1 : 16, order.reversed());
+    }
+
+    public void offer(T element) {
+        if (k <= 0 || heap.size() < k) {
+            heap.add(element);
+        } else if (order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    public void offerAll(Iterable<? extends T> elements) {
+        for (T element : elements) {
+            offer(element);
+        }
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * @return the kept elements, best first
+     */
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.matchescrud.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory substring index. Every indexed text is split into lowercase trigrams and each
+ * trigram points to the keys containing it, so a search only verifies the keys sharing all of
+ * the query's trigrams instead of scanning every entry. Queries shorter than three characters
+ * have no trigram and fall back to a scan of the in-memory entries.
+ * Results are returned in key order. Safe for concurrent use.
+ */
+public class TrigramIndex<K extends Comparable<K>, V> {
+
+    private final Map<K, Entry<V>> entries = new TreeMap<>();
+    private final Map<String, Set<K>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or replaces the value stored under the key, searchable by any of the texts.
+     */
+    public void put(K key, V value, String... texts) {
+        List<String> normalized = new ArrayList<>();
+        for (String text : texts) {
+            if (text != null && !text.isEmpty()) {
+                normalized.add(normalize(text));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            entries.put(key, new Entry<>(value, normalized));
+            for (String text : normalized) {
+                for (String trigram : trigrams(text)) {
+                    postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public V get(K key) {
+        lock.readLock().lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            return entry != null ? entry.value : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<V> values() {
+        lock.readLock().lock();
+        try {
+            List<V> values = new ArrayList<>(entries.size());
+            entries.values().forEach(entry -> values.add(entry.value));
+            return values;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Values with at least one text containing the query, ignoring case.
+     */
+    public List<V> search(String query) {
+        String needle = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (needle.length() < 3) {
+                return scan(entries.keySet(), needle);
+            }
+
+            // Intersect the posting lists, smallest first
+            List<Set<K>> lists = new ArrayList<>();
+            for (String trigram : trigrams(needle)) {
+                Set<K> keys = postings.get(trigram);
+                if (keys == null) {
+                    return new ArrayList<>();
+                }
+                lists.add(keys);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<K> candidates = new TreeSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i));
+            }
+
+            // Sharing every trigram does not guarantee they are contiguous, verify the substring
+            return scan(candidates, needle);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<V> scan(Collection<K> keys, String needle) {
+        List<V> result = new ArrayList<>();
+        for (K key : keys) {
+            Entry<V> entry = entries.get(key);
+            for (String text : entry.texts) {
+                if (text.contains(needle)) {
+                    result.add(entry.value);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private void removeLocked(K key) {
+        Entry<V> previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String text : previous.texts) {
+            for (String trigram : trigrams(text)) {
+                Set<K> keys = postings.get(trigram);
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final List<String> texts;
+
+        private Entry(V value, List<String> texts) {
+            this.value = value;
+            this.texts = texts;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.matchescrud.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Small LRU cache with a time-to-live per entry. Entries are evicted when they are older
+ * than the TTL or when the cache is full, least recently used first. Counts hits, misses
+ * and evictions so the size and TTL can be tuned from real traffic.
+ */
+public class TtlCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long sizeEvictions;
+    private long expirations;
+    private long invalidations;
+
+    public TtlCache(String name, int maxEntries, long ttlMillis) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        // Access order, so the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > TtlCache.this.maxEntries) {
+                    sizeEvictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the key, computing and storing it on a miss.
+     * The loader runs outside the lock, so a slow computation does not block other keys.
+     */
+    public V get(K key, Supplier<V> loader) {
+        long now = System.currentTimeMillis();
+        long generation;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits++;
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            generation = invalidations;
+        }
+
+        V value = loader.get();
+        synchronized (this) {
+            // Skip storing a value computed while an invalidation happened, it may already be stale
+            if (generation == invalidations) {
+                entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        invalidations++;
+        entries.keySet().removeIf(predicate);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized Stats stats() {
+        // Drop expired entries so the reported size matches what can still be served
+        long now = System.currentTimeMillis();
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+                expirations++;
+            }
+        }
+        return new Stats(name, entries.size(), maxEntries, ttlMillis, hits, misses, sizeEvictions, expirations,
+                invalidations);
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public static class Stats {
+        private final String name;
+        private final int size;
+        private final int maxEntries;
+        private final long ttlMillis;
+        private final long hits;
+        private final long misses;
+        private final long sizeEvictions;
+        private final long expirations;
+        private final long invalidations;
+
+        public Stats(String name, int size, int maxEntries, long ttlMillis, long hits, long misses,
+                     long sizeEvictions, long expirations, long invalidations) {
+            this.name = name;
+            this.size = size;
+            this.maxEntries = maxEntries;
+            this.ttlMillis = ttlMillis;
+            this.hits = hits;
+            this.misses = misses;
+            this.sizeEvictions = sizeEvictions;
+            this.expirations = expirations;
+            this.invalidations = invalidations;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public long getTtlMillis() {
+            return ttlMillis;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        public long getSizeEvictions() {
+            return sizeEvictions;
+        }
+
+        public long getExpirations() {
+            return expirations;
+        }
+
+        public long getInvalidations() {
+            return invalidations;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+-- Schema as created by Hibernate from the entities before the migrations were introduced.
+-- Existing databases are baselined at this version, see spring.flyway.baseline-version.
+
+create table city (
+    id bigint not null auto_increment,
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table division (
+    id bigint not null auto_increment,
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table stadium (
+    capacity integer not null,
+    id bigint not null auto_increment,
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table team (
+    city_id bigint,
+    division_id bigint,
+    id bigint not null auto_increment,
+    stadium_id bigint,
+    email varchar(255),
+    name varchar(255),
+    password varchar(255),
+    username varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table player (
+    jersey_number integer not null,
+    id bigint not null auto_increment,
+    team_id bigint not null,
+    name varchar(255),
+    position varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table matches (
+    away_goals integer not null,
+    date date,
+    home_goals integer not null,
+    revenue decimal(38,2),
+    spectators integer not null,
+    time time(6),
+    away_team_id bigint not null,
+    home_team_id bigint not null,
+    stadium_id bigint,
+    uuid binary(16) not null,
+    primary key (uuid)
+) engine=InnoDB;
+
+create table match_player_stats (
+    assists integer not null,
+    goals integer not null,
+    passes integer not null,
+    saves integer not null,
+    id bigint not null auto_increment,
+    player_id bigint not null,
+    match_uuid binary(16) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table team_standings (
+    draws integer not null,
+    goals_against integer not null,
+    goals_for integer not null,
+    losses integer not null,
+    played integer not null,
+    points integer not null,
+    wins integer not null,
+    id bigint not null auto_increment,
+    team_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    role enum ('USER','ADMIN') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table team add constraint UK_40rwssq6p5ns2btjpdjesrs7 unique (email);
+alter table team add constraint UK_seunxihprdrud11clsy4i2tmj unique (username);
+alter table team_standings add constraint UK_ktkwu5o5l6mwohck5gj862un4 unique (team_id);
+alter table user add constraint UK_ob8kqyqqgmefl0aco34akdtpe unique (email);
+alter table user add constraint UK_sb8bbouer5wak8vyiiy4pf2bx unique (username);
+
+alter table match_player_stats add constraint FKr8a53bslct7ml595f9ndo4ifa foreign key (match_uuid) references matches (uuid);
+alter table match_player_stats add constraint FKjpv9ta08idn3up4c27qcqgvr9 foreign key (player_id) references player (id);
+alter table matches add constraint FKbh4fpc4xaux9kop27bfypabra foreign key (away_team_id) references team (id);
+alter table matches add constraint FKav2sryrpg0rdk68v4sa1pe0rx foreign key (home_team_id) references team (id);
+alter table matches add constraint FKckd7lh29rbegw2o9c6m0uve6y foreign key (stadium_id) references stadium (id);
+alter table player add constraint FKdvd6ljes11r44igawmpm1mc5s foreign key (team_id) references team (id);
+alter table team add constraint FKlc9wl386scpvvm496y3h4j9kl foreign key (city_id) references city (id);
+alter table team add constraint FKoi8p1rc5f0b2el7mnofjs3tjn foreign key (division_id) references division (id);
+alter table team add constraint FKk8up3jhq9g2c6r6ex3s7ng360 foreign key (stadium_id) references stadium (id);
+alter table team_standings add constraint FKdqi6hdtm3esw0frik4578jpdh foreign key (team_id) references team (id) on delete cascade;
@@ -0,0 +1,58 @@
+-- Indexes for the predicates and orderings of the queries in the repository package.
+-- On MySQL the composite indexes leading with a foreign key column replace the index InnoDB
+-- created implicitly for that foreign key. Single column foreign key lookups, such as the teams
+-- of a division, are already served by those implicit indexes.
+
+-- Keyset paging and the match stream order by (date, time, uuid)
+create index idx_matches_date_time on matches (date, time, uuid);
+-- Matches of a team by date: history, dashboards, filters and the unified search
+create index idx_matches_home_team_date on matches (home_team_id, date, time);
+create index idx_matches_away_team_date on matches (away_team_id, date, time);
+-- Stadium statistics join the matches of each stadium within a date range
+create index idx_matches_stadium_date on matches (stadium_id, date);
+
+-- Databases from before these constraints can hold duplicates (the original seed gave two players
+-- the same number at Brighton and at Leicester), which would fail the alter table statements.
+-- Window functions sit in derived tables so MySQL materializes them before the update or delete.
+-- Repeated stats rows of a player in a match: the latest one is kept
+delete from match_player_stats where id in (
+    select id from (
+        select id, row_number() over (partition by match_uuid, player_id order by id desc) as copy
+        from match_player_stats
+    ) stats
+    where stats.copy > 1
+);
+-- Repeated jersey numbers in a team: the first player keeps it, the others get the next numbers
+-- above the team's highest
+update player set jersey_number = (
+    select renumbered.jersey_number from (
+        select duplicates.id,
+               highest.jersey_number + row_number() over (partition by duplicates.team_id order by duplicates.id) as jersey_number
+        from (
+            select id, team_id, row_number() over (partition by team_id, jersey_number order by id) as copy
+            from player
+        ) duplicates
+        join (select team_id, max(jersey_number) as jersey_number from player group by team_id) highest
+            on highest.team_id = duplicates.team_id
+        where duplicates.copy > 1
+    ) renumbered
+    where renumbered.id = player.id
+)
+where id in (
+    select id from (
+        select id, row_number() over (partition by team_id, jersey_number order by id) as copy
+        from player
+    ) players
+    where players.copy > 1
+);
+
+-- One stats row per player and match, looked up by both
+alter table match_player_stats add constraint uk_match_player_stats_match_player unique (match_uuid, player_id);
+-- Jersey numbers are unique within a team, checked before every player insert
+alter table player add constraint uk_player_team_jersey unique (team_id, jersey_number);
+
+-- Lookups by name
+create index idx_team_name on team (name);
+create index idx_city_name on city (name);
+create index idx_stadium_name on stadium (name);
+create index idx_division_name on division (name);
@@ -0,0 +1,10 @@
+-- Matches are paged and streamed by (date, time, uuid), and the keyset predicate never matches a
+-- null date or time, so matches saved without a kick-off by older versions could never be paged
+-- past. New writes require both. Existing rows missing one get a placeholder, the first day of
+-- 1970 or midnight, which sorts them first and is easy to find and correct: the match filter with
+-- endDate=1970-01-01 lists every match that had no date.
+update matches set date = date '1970-01-01' where date is null;
+update matches set time = time '00:00:00' where time is null;
+
+alter table matches modify date date not null;
+alter table matches modify time time(6) not null;
@@ -255,7 +255,7 @@ INSERT INTO player (name, position, jersey_number, team_id) VALUES
 ('Billy Gilmour', 'Midfielder', 11, @brighton_id),
 ('Solly March', 'Midfielder', 7, @brighton_id),
 ('Kaoru Mitoma', 'Forward', 22, @brighton_id),
-('Evan Ferguson', 'Forward', 18, @brighton_id),
+('Evan Ferguson', 'Forward', 28, @brighton_id),
 ('Joao Pedro', 'Forward', 9, @brighton_id),
 ('Adam Lallana', 'Midfielder', 14, @brighton_id),
 ('Mahmoud Dahoud', 'Midfielder', 8, @brighton_id),
@@ -288,7 +288,7 @@ INSERT INTO player (name, position, jersey_number, team_id) VALUES
 ('Luke Thomas', 'Defender', 33, @leicester_id),
 ('Ayoze Perez', 'Forward', 17, @leicester_id),
 ('Dennis Praet', 'Midfielder', 26, @leicester_id),
-('Kasper Schmeichel', 'Goalkeeper', 1, @leicester_id);
+('Kasper Schmeichel', 'Goalkeeper', 12, @leicester_id);
 
 -- Aston Villa Players (20 players)
 INSERT INTO player (name, position, jersey_number, team_id) VALUES
@@ -0,0 +1,168 @@
+package com.example.matchescrud.benchmark;
+
+import com.example.matchescrud.model.entity.Player;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.repository.PlayerRepository;
+import com.example.matchescrud.repository.TeamRepository;
+import com.example.matchescrud.service.SearchIndex;
+import com.example.matchescrud.service.SearchServiceImp;
+import com.example.matchescrud.util.BkTree;
+import com.example.matchescrud.util.TextFolding;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compares player name lookups as the number of players grows: the linear findAll plus contains
+ * search that was used before the indexes (finds no misspelled name), findAll plus a Levenshtein
+ * distance against every row, and the fuzzy search on the BK-tree. Runs against in-memory H2:
+ * mvn test -Dtest=FuzzySearchBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fuzzy-search-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class FuzzySearchBenchmark {
+
+    private static final int PLAYERS_PER_TEAM = 25;
+    private static final int QUERIES = 50;
+    private static final String[] FIRST_NAMES = {"Rasmus", "Dominik", "Erling", "Martin", "Bruno", "Kylian",
+            "Jérôme", "Søren", "Łukasz", "Thibaut", "Ødegaard", "İlkay", "Joško", "Mikel", "Bernardo"};
+    private static final String[] SYLLABLES = {"ho", "jl", "und", "szo", "bo", "sz", "lai", "haa", "land", "ve",
+            "rø", "mü", "ller", "gün", "do", "ğan", "ko", "vač", "ić", "san", "chez", "ber"};
+
+    @Autowired
+    private SearchServiceImp searchService;
+    @Autowired
+    private SearchIndex searchIndex;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void fuzzySearchAgainstLinearScan() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Random random = new Random(42);
+
+        System.out.printf("%-8s %-22s %-22s %-18s %-14s %-12s%n", "players", "contains ms/query",
+                "levenshtein ms/query", "bk-tree ms/query", "contains hits", "fuzzy hits");
+        for (int players : new int[]{1_000, 10_000, 50_000}) {
+            List<String> names = seed(players, random);
+            transaction.executeWithoutResult(status -> searchIndex.load());
+
+            // Real names with one or two typos, the way users type them
+            List<String> queries = new ArrayList<>();
+            for (int i = 0; i < QUERIES; i++) {
+                queries.add(misspell(names.get(random.nextInt(names.size())), random));
+            }
+
+            int[] containsHits = new int[1];
+            long contains = time(queries, query -> transaction.execute(status -> {
+                String lowerQuery = query.toLowerCase();
+                int hits = (int) playerRepository.findAll().stream()
+                        .filter(player -> player.getName().toLowerCase().contains(lowerQuery))
+                        .count();
+                containsHits[0] += hits;
+                return hits;
+            }));
+            long levenshtein = time(queries, query -> transaction.execute(status -> {
+                String folded = TextFolding.fold(query);
+                return (int) playerRepository.findAll().stream()
+                        .filter(player -> withinTwoEdits(folded, TextFolding.fold(player.getName())))
+                        .count();
+            }));
+            int[] bkTreeHits = new int[1];
+            long bkTree = time(queries, query -> {
+                int hits = searchService.fuzzySearchPlayers(query, 2).size();
+                bkTreeHits[0] += hits;
+                return hits;
+            });
+
+            System.out.printf("%-8d %-22.3f %-22.3f %-18.3f %-14d %-12d%n", players, contains / 1e6 / QUERIES,
+                    levenshtein / 1e6 / QUERIES, bkTree / 1e6 / QUERIES, containsHits[0] / 2, bkTreeHits[0] / 2);
+        }
+    }
+
+    // Same matching as the BK-tree, the whole name or any of its words
+    private boolean withinTwoEdits(String query, String name) {
+        if (BkTree.distance(query, name) <= 2) {
+            return true;
+        }
+        for (String word : name.split(" ")) {
+            if (BkTree.distance(query, word) <= 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Total time for all queries, after one untimed pass to warm up
+    private long time(List<String> queries, ToIntFunction<String> search) {
+        queries.forEach(search::applyAsInt);
+        long start = System.nanoTime();
+        queries.forEach(search::applyAsInt);
+        return System.nanoTime() - start;
+    }
+
+    private List<String> seed(int players, Random random) {
+        playerRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+
+        List<String> names = new ArrayList<>();
+        for (int t = 0; t < players / PLAYERS_PER_TEAM; t++) {
+            Team team = new Team();
+            team.setName("Team " + t);
+            team.setUsername("team" + t);
+            team.setEmail("team" + t + "@example.com");
+            team = teamRepository.save(team);
+
+            List<Player> squad = new ArrayList<>();
+            for (int p = 0; p < PLAYERS_PER_TEAM; p++) {
+                StringBuilder surname = new StringBuilder();
+                for (int s = 0; s < 2 + random.nextInt(2); s++) {
+                    surname.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+                }
+                surname.setCharAt(0, Character.toUpperCase(surname.charAt(0)));
+                Player player = new Player();
+                player.setName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + surname);
+                player.setPosition("Forward");
+                player.setJerseyNumber(p + 1);
+                player.setTeam(team);
+                squad.add(player);
+                names.add(player.getName());
+            }
+            playerRepository.saveAll(squad);
+        }
+        return names;
+    }
+
+    // Surname typed without accents and with one character dropped or swapped
+    private String misspell(String name, Random random) {
+        String surname = TextFolding.fold(name.substring(name.indexOf(' ') + 1));
+        int position = random.nextInt(surname.length());
+        if (random.nextBoolean() || position == surname.length() - 1) {
+            return surname.substring(0, position) + surname.substring(position + 1);
+        }
+        char[] chars = surname.toCharArray();
+        char swap = chars[position];
+        chars[position] = chars[position + 1];
+        chars[position + 1] = swap;
+        return new String(chars);
+    }
+}
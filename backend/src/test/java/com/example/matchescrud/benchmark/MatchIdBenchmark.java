@@ -0,0 +1,99 @@
+package com.example.matchescrud.benchmark;
+
+import com.example.matchescrud.util.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares random version 4 match ids against time-ordered version 7 ones: insert throughput
+ * into a matches table keyed by BINARY(16) with a stats table referencing it, and the disk space
+ * both tables and their indexes take afterwards. Runs against a file backed H2 database, whose
+ * B-tree splits pages on out of order inserts the way the InnoDB clustered index does:
+ * mvn test -Dtest=MatchIdBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MatchIdBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int STATS_PER_MATCH = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void timeOrderedIdsAgainstRandomIds() throws SQLException {
+        System.out.printf("%-8s %-10s %-16s %-16s %-16s%n", "matches", "ids", "inserts/s", "matches KB", "stats KB");
+        for (int matches : new int[]{50_000, 200_000, 500_000}) {
+            run("v4", matches, UUID::randomUUID);
+            run("v7", matches, UuidV7::next);
+        }
+    }
+
+    private void run(String name, int matches, Supplier<UUID> ids) throws SQLException {
+        String url = "jdbc:h2:file:" + directory.resolve(name + "-" + matches) + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table matches (uuid binary(16) not null, date date, home_team_id bigint, " +
+                        "away_team_id bigint, primary key (uuid))");
+                statement.execute("create table match_player_stats (id bigint not null auto_increment, " +
+                        "match_uuid binary(16) not null, player_id bigint not null, goals integer not null, " +
+                        "primary key (id), foreign key (match_uuid) references matches (uuid))");
+            }
+            connection.setAutoCommit(false);
+
+            long start = System.nanoTime();
+            try (PreparedStatement match = connection.prepareStatement(
+                    "insert into matches (uuid, date, home_team_id, away_team_id) values (?, current_date, 1, 2)");
+                 PreparedStatement stats = connection.prepareStatement(
+                         "insert into match_player_stats (match_uuid, player_id, goals) values (?, ?, 0)")) {
+                for (int i = 1; i <= matches; i++) {
+                    byte[] id = toBytes(ids.get());
+                    match.setBytes(1, id);
+                    match.addBatch();
+                    for (int p = 0; p < STATS_PER_MATCH; p++) {
+                        stats.setBytes(1, id);
+                        stats.setLong(2, p);
+                        stats.addBatch();
+                    }
+                    if (i % BATCH_SIZE == 0 || i == matches) {
+                        match.executeBatch();
+                        stats.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%-8d %-10s %-16.0f %-16d %-16d%n", matches, name, matches / seconds,
+                    diskSpace(connection, "MATCHES") / 1024, diskSpace(connection, "MATCH_PLAYER_STATS") / 1024);
+        }
+    }
+
+    // Bytes used by the table and all of its indexes
+    private long diskSpace(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select disk_space_used('" + table + "')")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.matchescrud.benchmark;
+
+import com.example.matchescrud.dto.request.MatchRequestDTO;
+import com.example.matchescrud.dto.response.MatchImportResultDTO;
+import com.example.matchescrud.exceptions.ApiException;
+import com.example.matchescrud.model.entity.Stadium;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.repository.MatchRepository;
+import com.example.matchescrud.repository.StadiumRepository;
+import com.example.matchescrud.repository.TeamRepository;
+import com.example.matchescrud.repository.TeamStandingRepository;
+import com.example.matchescrud.service.MatchImportServiceImp;
+import com.example.matchescrud.service.MatchServiceImp;
+import com.example.matchescrud.service.interfaces.IMatchImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Loads a season of matches one createMatch call per match, the way POST /api/v1/match does,
+ * against the bulk import of the same matches from CSV. Runs against in-memory H2:
+ * mvn test -Dtest=MatchImportBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:match-import-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class MatchImportBenchmark {
+
+    private static final int TEAMS = 20;
+    private static final int SINGLE_CREATES = 2_000;
+
+    @Autowired
+    private MatchServiceImp matchService;
+    @Autowired
+    private MatchImportServiceImp matchImportService;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private StadiumRepository stadiumRepository;
+    @Autowired
+    private TeamStandingRepository teamStandingRepository;
+
+    @Test
+    void bulkImportAgainstSingleCreates() throws ApiException, IOException {
+        List<Team> teams = seedTeams();
+        Random random = new Random(42);
+
+        System.out.printf("%-28s %-10s %-12s%n", "", "matches", "matches/s");
+        for (int matches : new int[]{10_000, 100_000, 500_000}) {
+            byte[] csv = csv(teams, matches, random);
+            // Warm up on a small file first so the timing covers the import, not class loading
+            if (matches == 10_000) {
+                matchImportService.importMatches(new ByteArrayInputStream(csv), IMatchImportService.Format.CSV);
+            }
+            clearMatches();
+
+            long start = System.nanoTime();
+            MatchImportResultDTO result = matchImportService.importMatches(new ByteArrayInputStream(csv),
+                    IMatchImportService.Format.CSV);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            assertEquals(matches, result.getImported());
+            System.out.printf("%-28s %-10d %-12.0f%n", "bulk CSV import", matches, matches / seconds);
+        }
+
+        // Last, createMatch queues dashboard rebuilds that would otherwise run during the imports
+        clearMatches();
+        long start = System.nanoTime();
+        for (int i = 0; i < SINGLE_CREATES; i++) {
+            Team home = teams.get(random.nextInt(TEAMS));
+            Team away = teams.get(random.nextInt(TEAMS));
+            matchService.createMatch(new MatchRequestDTO(1000, LocalDate.of(2024, 8, 1).plusDays(i % 300),
+                    LocalTime.of(15, 0), reference(home), reference(away), random.nextInt(5), random.nextInt(5),
+                    BigDecimal.TEN));
+        }
+        double singleSeconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-28s %-10d %-12.0f%n", "createMatch per match", SINGLE_CREATES, SINGLE_CREATES / singleSeconds);
+    }
+
+    private List<Team> seedTeams() {
+        List<Team> teams = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            Stadium stadium = stadiumRepository.save(new Stadium(null, "Stadium " + t, 60_000));
+            Team team = new Team();
+            team.setName("Team " + t);
+            team.setUsername("team" + t);
+            team.setEmail("team" + t + "@example.com");
+            team.setStadium(stadium);
+            teams.add(teamRepository.save(team));
+        }
+        return teams;
+    }
+
+    private byte[] csv(List<Team> teams, int matches, Random random) {
+        StringBuilder csv = new StringBuilder("date,time,homeTeamId,awayTeam,homeGoals,awayGoals,spectators,ticketPrice\n");
+        for (int i = 0; i < matches; i++) {
+            Team home = teams.get(random.nextInt(TEAMS));
+            Team away = teams.get(random.nextInt(TEAMS));
+            csv.append(LocalDate.of(2024, 8, 1).plusDays(i % 300)).append(",15:00,")
+                    .append(home.getId()).append(",\"").append(away.getName()).append("\",")
+                    .append(random.nextInt(5)).append(',').append(random.nextInt(5)).append(",1000,10\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void clearMatches() {
+        teamStandingRepository.deleteAllInBatch();
+        matchRepository.deleteAllInBatch();
+    }
+
+    private static Team reference(Team team) {
+        Team reference = new Team();
+        reference.setId(team.getId());
+        return reference;
+    }
+}
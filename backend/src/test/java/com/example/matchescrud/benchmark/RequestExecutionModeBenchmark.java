@@ -0,0 +1,207 @@
+package com.example.matchescrud.benchmark;
+
+import com.example.matchescrud.MatchescrudApplication;
+import com.example.matchescrud.dto.request.PlayerStatsLineDTO;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Player;
+import com.example.matchescrud.model.entity.Stadium;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.repository.MatchPlayerStatsRepository;
+import com.example.matchescrud.repository.MatchRepository;
+import com.example.matchescrud.repository.PlayerRepository;
+import com.example.matchescrud.repository.StadiumRepository;
+import com.example.matchescrud.repository.TeamRepository;
+import com.example.matchescrud.service.MatchImportServiceImp;
+import com.example.matchescrud.service.interfaces.IMatchImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Starts the application once per request execution mode on in-memory H2 and drives player and team
+ * history requests, which are mostly JDBC work, from more concurrent clients than Tomcat has
+ * platform threads. Prints throughput and latency percentiles per mode. The virtual thread mode needs
+ * a Java 21 runtime and is skipped on older ones:
+ * mvn test -Dtest=RequestExecutionModeBenchmark -Dbenchmark=true -Djvm=/path/to/jdk-21/bin/java
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RequestExecutionModeBenchmark {
+
+    private static final int TEAMS = 20;
+    private static final int PLAYERS_PER_TEAM = 5;
+    private static final int MATCHES = 4_000;
+    private static final int CLIENTS = 400;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURED = Duration.ofSeconds(20);
+
+    @Test
+    void platformAgainstVirtualThreads() throws Exception {
+        System.out.printf("%-34s %-10s %-12s %-10s %-10s %-8s%n", "", "requests", "requests/s", "p50 ms", "p99 ms", "errors");
+        run("platform threads", false, false);
+        run("platform threads + JDBC limiter", false, true);
+        if (Runtime.version().feature() >= 21) {
+            run("virtual threads + JDBC limiter", true, true);
+        } else {
+            System.out.printf("%-34s skipped, needs Java 21 (running %s)%n", "virtual threads + JDBC limiter",
+                    Runtime.version());
+        }
+    }
+
+    private void run(String mode, boolean virtualThreads, boolean limiter) throws Exception {
+        // Arguments, so they win over application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MatchescrudApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:execution-mode-" + virtualThreads + "-" + limiter
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--jdbc.concurrency-limiter.enabled=" + limiter,
+                "--logging.level.root=WARN")) {
+            List<Long> teamIds = new ArrayList<>();
+            List<Long> playerIds = new ArrayList<>();
+            seed(context, teamIds, playerIds);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            load(mode, port, teamIds, playerIds);
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context, List<Long> teamIds, List<Long> playerIds) throws Exception {
+        StadiumRepository stadiumRepository = context.getBean(StadiumRepository.class);
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        PlayerRepository playerRepository = context.getBean(PlayerRepository.class);
+        List<Team> teams = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            Team team = new Team();
+            team.setName("Team " + t);
+            team.setUsername("team" + t);
+            team.setEmail("team" + t + "@example.com");
+            team.setStadium(stadiumRepository.save(new Stadium(null, "Stadium " + t, 60_000)));
+            team = teamRepository.save(team);
+            teams.add(team);
+            teamIds.add(team.getId());
+            for (int p = 0; p < PLAYERS_PER_TEAM; p++) {
+                playerIds.add(playerRepository.save(new Player(null, "Player " + t + "-" + p, "Midfielder", p + 1, team)).getId());
+            }
+        }
+
+        Random random = new Random(42);
+        StringBuilder csv = new StringBuilder("date,time,homeTeamId,awayTeamId,homeGoals,awayGoals,spectators,ticketPrice\n");
+        for (int i = 0; i < MATCHES; i++) {
+            int home = random.nextInt(TEAMS);
+            int away = (home + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            csv.append(LocalDate.of(2024, 8, 1).plusDays(i % 300)).append(",15:00,")
+                    .append(teams.get(home).getId()).append(',').append(teams.get(away).getId()).append(',')
+                    .append(random.nextInt(5)).append(',').append(random.nextInt(5)).append(",1000,10\n");
+        }
+        context.getBean(MatchImportServiceImp.class).importMatches(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), IMatchImportService.Format.CSV);
+
+        // Every player of both teams gets a stats line in every match
+        MatchPlayerStatsRepository statsRepository = context.getBean(MatchPlayerStatsRepository.class);
+        for (Match match : context.getBean(MatchRepository.class).findAll()) {
+            List<PlayerStatsLineDTO> lines = new ArrayList<>();
+            for (Team team : List.of(match.getHomeTeam(), match.getAwayTeam())) {
+                int index = teamIds.indexOf(team.getId());
+                for (int p = 0; p < PLAYERS_PER_TEAM; p++) {
+                    lines.add(new PlayerStatsLineDTO(playerIds.get(index * PLAYERS_PER_TEAM + p),
+                            random.nextInt(2), random.nextInt(2), 20 + random.nextInt(40), 0));
+                }
+            }
+            statsRepository.upsertAll(match.getUuid(), lines);
+        }
+    }
+
+    private void load(String mode, int port, List<Long> teamIds, List<Long> playerIds) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long warmUpEnd = System.nanoTime() + WARM_UP.toNanos();
+            long end = warmUpEnd + MEASURED.toNanos();
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int seed = c;
+                results.add(clients.submit(() -> {
+                    Random random = new Random(seed);
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= end) {
+                            break;
+                        }
+                        String path = random.nextBoolean()
+                                ? "/api/v1/player/" + playerIds.get(random.nextInt(playerIds.size())) + "/history"
+                                : "/api/v1/team/" + teamIds.get(random.nextInt(teamIds.size())) + "/history";
+                        HttpResponse<byte[]> response = client.send(
+                                HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                                HttpResponse.BodyHandlers.ofByteArray());
+                        long finished = System.nanoTime();
+                        if (start < warmUpEnd || finished > end) {
+                            continue;
+                        }
+                        if (response.statusCode() != 200) {
+                            errors++;
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = finished - start;
+                    }
+                    // Errors ride along in the last slot
+                    long[] result = Arrays.copyOf(latencies, count + 1);
+                    result[count] = errors;
+                    return result;
+                }));
+            }
+
+            List<Long> all = new ArrayList<>();
+            long errors = 0;
+            for (Future<long[]> result : results) {
+                long[] latencies = result.get();
+                for (int i = 0; i < latencies.length - 1; i++) {
+                    all.add(latencies[i]);
+                }
+                errors += latencies[latencies.length - 1];
+            }
+            all.sort(null);
+            System.out.printf("%-34s %-10d %-12.0f %-10.1f %-10.1f %-8d%n", mode, all.size(),
+                    all.size() / (double) MEASURED.toSeconds(), percentile(all, 0.50), percentile(all, 0.99), errors);
+            assertEquals(0, errors);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1)) / 1e6;
+    }
+}
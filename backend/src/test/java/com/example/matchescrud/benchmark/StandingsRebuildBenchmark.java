@@ -0,0 +1,135 @@
+package com.example.matchescrud.benchmark;
+
+import com.example.matchescrud.model.entity.Division;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.repository.*;
+import com.example.matchescrud.service.StandingsServiceImp;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares the standings rebuild run serially against the parallel per-division rebuild as the
+ * number of divisions grows (10 teams per division, double round robin). Runs against in-memory H2:
+ * mvn test -Dtest=StandingsRebuildBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:standings-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "standings.rebuild.parallelism=4"
+})
+class StandingsRebuildBenchmark {
+
+    private static final int TEAMS_PER_DIVISION = 10;
+    private static final int ITERATIONS = 7;
+
+    @Autowired
+    private StandingsServiceImp parallelStandingsService;
+    @Autowired
+    private TeamStandingRepository teamStandingRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private DivisionRepository divisionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void rebuildScalesWithDivisionCount() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        StandingsServiceImp serialStandingsService = new StandingsServiceImp(
+                teamStandingRepository, teamRepository, matchRepository, divisionRepository, eventPublisher, 1);
+
+        System.out.printf("%-10s %-8s %-8s %-12s %-12s%n", "divisions", "teams", "matches", "serial ms", "parallel ms");
+        try {
+            for (int divisions : new int[]{1, 2, 4, 8, 16, 32}) {
+                seed(divisions);
+                long serial = median(() -> transaction.execute(status -> serialStandingsService.rebuildStandings()));
+                long parallel = median(() -> transaction.execute(status -> parallelStandingsService.rebuildStandings()));
+                System.out.printf("%-10d %-8d %-8d %-12.1f %-12.1f%n", divisions, teamRepository.count(),
+                        matchRepository.count(), serial / 1e6, parallel / 1e6);
+            }
+        } finally {
+            serialStandingsService.shutdown();
+        }
+    }
+
+    private long median(Runnable rebuild) {
+        rebuild.run(); // warm up
+        long[] timings = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            rebuild.run();
+            timings[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(timings);
+        return timings[ITERATIONS / 2];
+    }
+
+    private void seed(int divisions) {
+        teamStandingRepository.deleteAllInBatch();
+        matchRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        divisionRepository.deleteAllInBatch();
+
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int d = 0; d < divisions; d++) {
+            Division division = new Division();
+            division.setName("Division " + d);
+            division = divisionRepository.save(division);
+
+            List<Team> teams = new ArrayList<>();
+            for (int t = 0; t < TEAMS_PER_DIVISION; t++) {
+                Team team = new Team();
+                team.setName("Team " + d + "-" + t);
+                team.setUsername("team" + d + "x" + t);
+                team.setEmail("team" + d + "x" + t + "@example.com");
+                team.setDivision(division);
+                teams.add(team);
+            }
+            teams = teamRepository.saveAll(teams);
+
+            List<Match> matches = new ArrayList<>();
+            for (Team home : teams) {
+                for (Team away : teams) {
+                    if (home == away) {
+                        continue;
+                    }
+                    Match match = new Match();
+                    match.setUuid(UUID.randomUUID());
+                    match.setDate(day);
+                    match.setTime(LocalTime.of(15, 0));
+                    match.setHomeTeam(home);
+                    match.setAwayTeam(away);
+                    match.setHomeGoals((int) (home.getId() % 4));
+                    match.setAwayGoals((int) (away.getId() % 3));
+                    match.setRevenue(BigDecimal.ZERO);
+                    matches.add(match);
+                }
+            }
+            matchRepository.saveAll(matches);
+        }
+    }
+}
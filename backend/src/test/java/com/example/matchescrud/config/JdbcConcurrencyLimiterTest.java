@@ -0,0 +1,39 @@
+package com.example.matchescrud.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks out connections of an in-memory H2 database through a limiter of two permits.
+ */
+class JdbcConcurrencyLimiterTest {
+
+    @Test
+    void waitsForAPermitAndGivesUpAfterTheTimeout() throws SQLException {
+        JdbcConcurrencyLimiter limiter = new JdbcConcurrencyLimiter(
+                new DriverManagerDataSource("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1", "sa", ""), 2, 50);
+
+        Connection first = limiter.getConnection();
+        Connection second = limiter.getConnection();
+        assertEquals(2, limiter.getInUse());
+        assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+
+        // Closing twice hands back one permit, not two
+        first.close();
+        first.close();
+        assertEquals(1, limiter.getInUse());
+
+        try (Connection third = limiter.getConnection()) {
+            assertTrue(third.isValid(1));
+            assertEquals(2, limiter.getInUse());
+        }
+        second.close();
+        assertEquals(0, limiter.getInUse());
+    }
+}
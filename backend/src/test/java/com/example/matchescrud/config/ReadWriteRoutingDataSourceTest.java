@@ -0,0 +1,54 @@
+package com.example.matchescrud.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes transactions between two in-memory H2 databases standing in for the primary and the
+ * replica, set up the way DataSourceConfig does it.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        DataSource dataSource = routing(h2("routing-primary"), h2("routing-replica"));
+
+        assertEquals("routing-replica", databaseName(dataSource, true));
+        assertEquals("routing-primary", databaseName(dataSource, false));
+        // Outside a transaction
+        assertEquals("routing-primary", new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenTheReplicaIsDown() {
+        DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE", "sa", "");
+        DataSource dataSource = routing(h2("routing-fallback-primary"), replica);
+
+        assertEquals("routing-fallback-primary", databaseName(dataSource, true));
+        assertEquals("routing-fallback-primary", databaseName(dataSource, true));
+    }
+
+    private static DataSource routing(DataSource primary, DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, 30_000));
+    }
+
+    private static String databaseName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+                "sa", "");
+    }
+}
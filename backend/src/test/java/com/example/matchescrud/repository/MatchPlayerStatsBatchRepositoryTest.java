@@ -0,0 +1,86 @@
+package com.example.matchescrud.repository;
+
+import com.example.matchescrud.dto.MatchPlayerStatsDTO;
+import com.example.matchescrud.dto.request.PlayerStatsLineDTO;
+import com.example.matchescrud.exceptions.ApiException;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Player;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.service.MatchPlayerStatsServiceImp;
+import com.example.matchescrud.util.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Saves lineups through the batch upsert on the schema the Flyway migrations create, with its
+ * unique (match, player) key. Runs on H2 in MySQL mode, which takes the VALUES(col) form of the
+ * statement, MySQL gets the row alias form.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lineup-upsert-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class MatchPlayerStatsBatchRepositoryTest {
+
+    @Autowired
+    private MatchPlayerStatsServiceImp matchPlayerStatsService;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void lineupInsertsNewRowsAndOverwritesRecordedOnes() throws ApiException {
+        Team home = teamRepository.save(team("Alpha"));
+        Team away = teamRepository.save(team("Beta"));
+        Player striker = playerRepository.save(new Player(null, "Striker", "FW", 9, home));
+        Player keeper = playerRepository.save(new Player(null, "Keeper", "GK", 1, away));
+        Player winger = playerRepository.save(new Player(null, "Winger", "FW", 11, home));
+        UUID matchUuid = matchRepository.save(new Match(UuidV7.next(), LocalDate.of(2024, 3, 2), LocalTime.of(15, 0),
+                home, away, 2, 0, null, 0, BigDecimal.ZERO)).getUuid();
+
+        List<MatchPlayerStatsDTO> inserted = matchPlayerStatsService.saveLineupStats(matchUuid, List.of(
+                new PlayerStatsLineDTO(striker.getId(), 2, 0, 30, 0),
+                new PlayerStatsLineDTO(keeper.getId(), 0, 0, 20, 5)));
+        assertEquals(List.of("Striker 2/0/30/0", "Keeper 0/0/20/5"), lines(inserted));
+
+        // The striker's row is overwritten, the winger's inserted, the keeper's left as it was
+        List<MatchPlayerStatsDTO> updated = matchPlayerStatsService.saveLineupStats(matchUuid, List.of(
+                new PlayerStatsLineDTO(striker.getId(), 1, 1, 35, 0),
+                new PlayerStatsLineDTO(winger.getId(), 1, 1, 25, 0)));
+        assertEquals(List.of("Striker 1/1/35/0", "Keeper 0/0/20/5", "Winger 1/1/25/0"), lines(updated));
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from match_player_stats", Integer.class));
+    }
+
+    private static Team team(String name) {
+        Team team = new Team();
+        team.setName(name);
+        return team;
+    }
+
+    private static List<String> lines(List<MatchPlayerStatsDTO> stats) {
+        return stats.stream()
+                .sorted((a, b) -> Long.compare(a.getPlayer().getId(), b.getPlayer().getId()))
+                .map(s -> s.getPlayer().getName() + " " + s.getGoals() + "/" + s.getAssists() + "/" + s.getPasses() + "/" + s.getSaves())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.matchescrud.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Upgrades databases holding data the earlier versions allowed: the duplicates the original seed
+ * script created, which V2's unique constraints would fail on, and matches without a kick-off,
+ * which V3 fills in before requiring it. Runs on H2 in MySQL mode.
+ */
+class MigrationUpgradeTest {
+
+    @Test
+    void duplicateJerseysAndStatsRowsAreResolvedBeforeTheUniqueConstraints() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+        migrate(dataSource, "1");
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("insert into team (id, name) values (1, 'Brighton'), (2, 'Leicester')");
+        // Brighton #18 and Leicester #1 twice, as in the seed, and one team with two repeated numbers
+        jdbc.update("insert into player (id, name, jersey_number, team_id) values " +
+                "(1, 'Evan Ferguson', 18, 1), (2, 'Danny Welbeck', 18, 1), (3, 'Kaoru Mitoma', 22, 1), " +
+                "(4, 'Danny Ward', 1, 2), (5, 'Kasper Schmeichel', 1, 2), (6, 'Mads Hermansen', 30, 2), (7, 'Jakub Stolarczyk', 30, 2)");
+        jdbc.update("insert into matches (uuid, home_team_id, away_team_id, home_goals, away_goals, spectators) " +
+                "values (X'00000000000000000000000000000001', 1, 2, 1, 0, 0)");
+        jdbc.update("insert into match_player_stats (id, match_uuid, player_id, goals, assists, passes, saves) values " +
+                "(1, X'00000000000000000000000000000001', 1, 0, 0, 10, 0), " +
+                "(2, X'00000000000000000000000000000001', 1, 1, 0, 20, 0)");
+
+        migrate(dataSource, "2");
+
+        assertEquals(List.of("1:18", "2:23", "3:22", "4:1", "5:31", "6:30", "7:32"),
+                jdbc.queryForList("select concat(id, ':', jersey_number) from player order by id", String.class));
+        // The latest stats row is kept
+        assertEquals(List.of(2L), jdbc.queryForList("select id from match_player_stats", Long.class));
+    }
+
+    @Test
+    void matchesWithoutKickOffGetThePlaceholderAndTheColumnsBecomeRequired() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-kickoff;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+        migrate(dataSource, "2");
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("insert into team (id, name) values (1, 'Brighton'), (2, 'Leicester')");
+        jdbc.update("insert into matches (uuid, date, time, home_team_id, away_team_id, home_goals, away_goals, spectators) values " +
+                "(X'00000000000000000000000000000001', null, null, 1, 2, 1, 0, 0), " +
+                "(X'00000000000000000000000000000002', date '2024-03-02', null, 1, 2, 1, 0, 0), " +
+                "(X'00000000000000000000000000000003', date '2024-03-09', time '15:00:00', 2, 1, 0, 0, 0)");
+
+        migrate(dataSource, "3");
+
+        assertEquals(List.of("1970-01-01 00:00", "2024-03-02 00:00", "2024-03-09 15:00"),
+                jdbc.queryForList("select concat(date, ' ', formatdatetime(time, 'HH:mm')) from matches order by uuid", String.class));
+        assertThrows(DataIntegrityViolationException.class, () -> jdbc.update(
+                "insert into matches (uuid, date, time, home_team_id, away_team_id, home_goals, away_goals, spectators) " +
+                "values (X'00000000000000000000000000000004', null, time '15:00:00', 1, 2, 0, 0, 0)"));
+    }
+
+    private static void migrate(DataSource dataSource, String target) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target(target).load().migrate();
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.matchescrud.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds the schema from the Flyway migrations, has Hibernate validate it against the entities,
+ * and checks with EXPLAIN that the SQL Hibernate generates for the hot repository methods is
+ * served by the migration's indexes. Each method is called for real; the statement it sends is
+ * recorded with its bound values and explained with those values inlined, the way MySQL plans a
+ * statement once its parameters are known. Runs on H2 in MySQL mode with the MySQL dialect, so
+ * the columns are validated as MySQL types, and the H2 plans name the index each table is read through.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-index-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private MatchPlayerStatsRepository matchPlayerStatsRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private CityRepository cityRepository;
+    @Autowired
+    private StadiumRepository stadiumRepository;
+    @Autowired
+    private DivisionRepository divisionRepository;
+
+    @BeforeEach
+    void clearStatements() {
+        StatementRecorder.statements.clear();
+    }
+
+    @Test
+    void matchPagesUseDateTimeIndex() {
+        matchRepository.findMatchResponsesWithFilters(null, null, null, null, null,
+                LocalDate.of(2024, 1, 1), LocalTime.of(15, 0), UUID.randomUUID(), PageRequest.of(0, 20));
+        assertUsesIndex("idx_matches_date_time", "matches");
+    }
+
+    @Test
+    void teamMatchesUseTeamIndexes() {
+        // H2 keeps the index it created for the foreign key next to the composite one and may pick
+        // either, InnoDB drops its implicit foreign key index once V2 adds the composite
+        matchRepository.findByHomeTeamId(1L);
+        assertLooksUp("matches", "home_team_id");
+        matchRepository.findByAwayTeamId(1L);
+        assertLooksUp("matches", "away_team_id");
+    }
+
+    @Test
+    void stadiumStatisticsUseStadiumDateIndex() {
+        stadiumRepository.findStadiumStatistics(null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        assertUsesIndex("idx_matches_stadium_date", "matches");
+    }
+
+    @Test
+    void playerStatsLookupUsesUniqueMatchPlayerConstraint() {
+        matchPlayerStatsRepository.findByMatchUuidAndPlayerId(UUID.randomUUID(), 1L);
+        assertUsesIndex("uk_match_player_stats_match_player", "match_player_stats");
+    }
+
+    @Test
+    void jerseyCheckUsesUniqueTeamJerseyConstraint() {
+        playerRepository.existsByTeamIdAndJerseyNumber(1L, 9);
+        assertUsesIndex("uk_player_team_jersey", "player");
+    }
+
+    @Test
+    void lookupsByNameUseNameIndexes() {
+        teamRepository.findByName("Alpha FC");
+        assertUsesIndex("idx_team_name", "team");
+        cityRepository.findByName("Acity");
+        assertUsesIndex("idx_city_name", "city");
+        stadiumRepository.findByName("Alpha Park");
+        assertUsesIndex("idx_stadium_name", "stadium");
+        divisionRepository.findByName("Premier");
+        assertUsesIndex("idx_division_name", "division");
+    }
+
+    // Explains the last statement sent and checks the table is read through the index.
+    // H2 names the index under the table it reads, as in "public"."matches" "m1_0" /* public.idx_matches_date_time,
+    // the index backing a unique constraint is named after it with an _INDEX_ suffix
+    private void assertUsesIndex(String index, String table) {
+        assertPlan(table + " to be read through " + index,
+                Pattern.compile("\"public\"\\.\"" + table + "\" \"\\w+\"\\s*/\\* public\\." + index + "(_INDEX_\\w+)?[:\\s]"));
+    }
+
+    // Checks the table is read through an index lookup on the column, whichever index that is
+    private void assertLooksUp(String table, String column) {
+        assertPlan(table + " to be looked up by " + column,
+                Pattern.compile("\"public\"\\.\"" + table + "\" \"\\w+\"\\s*/\\* public\\.\\w+: " + column + " = "));
+    }
+
+    private void assertPlan(String expected, Pattern pattern) {
+        assertTrue(!StatementRecorder.statements.isEmpty(), "No statement was sent");
+        String sql = StatementRecorder.statements.get(StatementRecorder.statements.size() - 1);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertTrue(plan != null && pattern.matcher(plan).find(),
+                () -> "Expected " + expected + " for\n" + sql + "\n" + plan);
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new StatementRecorder(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    // Keeps every query sent through a prepared statement, with the values bound to it inlined
+    static class StatementRecorder extends DelegatingDataSource {
+
+        static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+        StatementRecorder(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private static Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            return recording((PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String sql) {
+            Map<Integer, Object> values = new HashMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            values.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("executeQuery") && (args == null || args.length == 0)) {
+                            statements.add(inline(sql, values));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        // Hibernate's SQL has no string literals of its own, so every question mark is a parameter
+        private static String inline(String sql, Map<Integer, Object> values) {
+            String statement = sql.replaceFirst("(?s)^\\s*/\\*.*?\\*/", "");
+            StringBuilder inlined = new StringBuilder();
+            int index = 0;
+            for (char c : statement.toCharArray()) {
+                if (c == '?') {
+                    inlined.append(literal(values.get(++index)));
+                } else {
+                    inlined.append(c);
+                }
+            }
+            return inlined.toString();
+        }
+
+        private static String literal(Object value) {
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            if (value instanceof byte[] bytes) {
+                return "X'" + HexFormat.of().formatHex(bytes) + "'";
+            }
+            if (value instanceof java.sql.Date || value instanceof LocalDate) {
+                return "DATE '" + value + "'";
+            }
+            if (value instanceof java.sql.Time || value instanceof LocalTime) {
+                return "TIME '" + value + "'";
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.exceptions.UnauthorizedException;
+import com.example.matchescrud.model.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminTokenServiceTest {
+
+    private static final String OLD_KEY = "old:" + key('a');
+    private static final String NEW_KEY = "new:" + key('b');
+    private static final Instant NOW = Instant.parse("2024-08-01T12:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void verifiesIssuedTokenAndRejectsTamperingAndExpiry() throws UnauthorizedException {
+        AdminTokenService tokens = new AdminTokenService(NEW_KEY, Duration.ofMinutes(60), clock, objectMapper);
+        String token = tokens.issue("admin", User.Role.ADMIN, NOW.plusSeconds(60));
+
+        AdminTokenService.Claims claims = tokens.verify(token);
+        assertEquals("admin", claims.getUsername());
+        assertEquals("ADMIN", claims.getRole());
+
+        // Payload swapped for one claiming another user, signature no longer matches
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("{\"sub\":\"other\",\"role\":\"ADMIN\",\"jti\":\"x\",\"exp\":" + NOW.plusSeconds(60).getEpochSecond() + "}").getBytes())
+                + "." + parts[2];
+        assertThrows(UnauthorizedException.class, () -> tokens.verify(forged));
+        assertThrows(UnauthorizedException.class, () -> tokens.verify("not-a-token"));
+
+        String expired = tokens.issue("admin", User.Role.ADMIN, NOW);
+        assertThrows(UnauthorizedException.class, () -> tokens.verify(expired));
+    }
+
+    @Test
+    void acceptsTokensOfRotatedOutKeyUntilItIsRemoved() throws UnauthorizedException {
+        String token = new AdminTokenService(OLD_KEY, Duration.ofMinutes(60), clock, objectMapper)
+                .issue("admin", User.Role.ADMIN, NOW.plusSeconds(60));
+
+        AdminTokenService rotated = new AdminTokenService(NEW_KEY + "," + OLD_KEY, Duration.ofMinutes(60), clock, objectMapper);
+        assertEquals("admin", rotated.verify(token).getUsername());
+        assertTrue(rotated.issue("admin", User.Role.ADMIN, NOW.plusSeconds(60)).startsWith("new."));
+
+        AdminTokenService oldKeyRemoved = new AdminTokenService(NEW_KEY, Duration.ofMinutes(60), clock, objectMapper);
+        assertThrows(UnauthorizedException.class, () -> oldKeyRemoved.verify(token));
+    }
+
+    @Test
+    void revokedTokenIsRejectedAndDroppedOnceExpired() throws UnauthorizedException {
+        Instant[] now = {NOW};
+        Clock moving = new Clock() {
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        AdminTokenService tokens = new AdminTokenService(NEW_KEY, Duration.ofMinutes(60), moving, objectMapper);
+        String first = tokens.issue("admin", User.Role.ADMIN, NOW.plusSeconds(60));
+        String second = tokens.issue("admin", User.Role.ADMIN, NOW.plusSeconds(600));
+
+        tokens.revoke(first);
+        assertThrows(UnauthorizedException.class, () -> tokens.verify(first));
+        assertNotNull(tokens.verify(second));
+
+        // The first token has expired by the next revoke and leaves the list
+        now[0] = NOW.plusSeconds(120);
+        tokens.revoke(second);
+        assertEquals(1, tokens.revokedCount());
+    }
+
+    private static String key(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+}
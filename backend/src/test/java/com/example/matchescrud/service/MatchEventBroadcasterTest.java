@@ -0,0 +1,120 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.event.MatchScoreChangedEvent;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Live score subscribers over real connections, with one sender thread and small socket buffers so
+ * a client that stops reading blocks its send after a few events.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:match-events-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "match.events.sender-threads=1",
+        "match.events.send-timeout-millis=500"
+})
+class MatchEventBroadcasterTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private MatchEventBroadcaster broadcaster;
+
+    @Test
+    void clientThatStopsReadingDoesNotHoldBackTheOthers() throws Exception {
+        UUID stuckMatch = UUID.randomUUID();
+        UUID liveMatch = UUID.randomUUID();
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try (Socket stuck = subscribe(stuckMatch, 1024); Socket live = subscribe(liveMatch, 64 * 1024)) {
+            Future<String> received = reader.submit(() -> firstScoreFor(live, liveMatch));
+            awaitSubscribers(2);
+
+            // Far more than the socket buffers hold, the sender ends up blocked writing to the stuck client
+            for (int i = 0; i < 2000; i++) {
+                broadcaster.onMatchScoreChanged(event(stuckMatch, i));
+            }
+            Thread.sleep(200);
+            broadcaster.onMatchScoreChanged(event(liveMatch, 1));
+
+            assertTrue(received.get(5, TimeUnit.SECONDS).contains(liveMatch.toString()));
+            // The stuck subscriber was dropped, the live one is still there
+            awaitSubscribers(1);
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    // A raw connection, so the receive buffer can be kept small and the response left unread
+    private Socket subscribe(UUID matchUuid, int receiveBuffer) throws Exception {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(receiveBuffer);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /api/v1/match/events?matchUuid=" + matchUuid + " HTTP/1.1\r\nHost: localhost\r\n"
+                + "Accept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    // The response is chunked and the event's data comes in a chunk of its own
+    private static String firstScoreFor(Socket socket, UUID matchUuid) throws Exception {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.contains(matchUuid.toString())) {
+                return line;
+            }
+        }
+        throw new IllegalStateException("Stream ended");
+    }
+
+    private void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (broadcaster.getSubscriberCount() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(count, broadcaster.getSubscriberCount());
+    }
+
+    private static MatchScoreChangedEvent event(UUID matchUuid, int homeGoals) {
+        Team home = new Team();
+        home.setId(1L);
+        Team away = new Team();
+        away.setId(2L);
+        return new MatchScoreChangedEvent(MatchScoreChangedEvent.Type.UPDATED,
+                new Match(matchUuid, LocalDate.of(2024, 3, 2), LocalTime.of(15, 0), home, away, homeGoals, 0, null, 0, null));
+    }
+
+    @TestConfiguration
+    static class SmallSendBuffers {
+        @Bean
+        TomcatConnectorCustomizer smallSendBuffer() {
+            return connector -> connector.setProperty("socket.txBufSize", "4096");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.response.MatchImportResultDTO;
+import com.example.matchescrud.model.entity.Division;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.repository.DivisionRepository;
+import com.example.matchescrud.repository.MatchRepository;
+import com.example.matchescrud.repository.TeamRepository;
+import com.example.matchescrud.repository.TeamStandingRepository;
+import com.example.matchescrud.service.interfaces.IMatchImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:match-import-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "match.import.chunk-size=2"
+})
+class MatchImportServiceImpTest {
+
+    @Autowired
+    private MatchImportServiceImp matchImportService;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private TeamStandingRepository teamStandingRepository;
+    @Autowired
+    private DivisionRepository divisionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        teamStandingRepository.deleteAllInBatch();
+        matchRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        divisionRepository.deleteAllInBatch();
+
+        Division division = divisionRepository.save(new Division(null, "Premier"));
+        for (String name : List.of("Alpha", "Beta", "Gamma")) {
+            Team team = new Team();
+            team.setName(name);
+            team.setDivision(division);
+            teamRepository.save(team);
+        }
+    }
+
+    @Test
+    void failedChunkIsReportedAndTheCommittedOnesStillCount() throws Exception {
+        // Gamma is deleted once the import has resolved the teams, so the second chunk breaks its foreign key
+        String csv = "date,time,homeTeam,awayTeam,homeGoals,awayGoals\n" +
+                "2024-03-02,15:00,Alpha,Beta,2,0\n" +
+                "2024-03-09,15:00,Beta,Alpha,1,1\n" +
+                "2024-03-16,15:00,Gamma,Alpha,0,1\n" +
+                "2024-03-23,15:00,Beta,Gamma,3,0\n" +
+                "2024-03-30,15:00,Alpha,Beta,1,0\n";
+        InputStream deletesGamma = new InputStream() {
+            @Override
+            public int read() {
+                jdbcTemplate.update("delete from team where name = 'Gamma'");
+                return -1;
+            }
+        };
+
+        MatchImportResultDTO result = matchImportService.importMatches(new SequenceInputStream(deletesGamma,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))), IMatchImportService.Format.CSV);
+
+        assertEquals(2, result.getImported());
+        assertNotNull(result.getFailedChunk());
+        assertEquals(4, result.getFailedChunk().getFromLine());
+        assertEquals(5, result.getFailedChunk().getToLine());
+        assertEquals(2, result.getFailedChunk().getMatches());
+        assertEquals(2, matchRepository.count());
+        // The standings were rebuilt from the committed chunk even though the import stopped
+        assertEquals(List.of("Alpha 4", "Beta 1"), jdbcTemplate.queryForList(
+                "select concat(t.name, ' ', s.points) from team_standings s join team t on t.id = s.team_id order by t.name",
+                String.class));
+    }
+
+    @Test
+    void importWithoutFailuresReportsNoFailedChunk() throws Exception {
+        String csv = "date,time,homeTeam,awayTeam,homeGoals,awayGoals\n" +
+                "2024-03-02,15:00,Alpha,Beta,2,0\n" +
+                "2024-03-09,15:00,Beta,Gamma,1,1\n" +
+                "2024-03-16,15:00,Gamma,Alpha,0,1\n";
+
+        MatchImportResultDTO result = matchImportService.importMatches(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), IMatchImportService.Format.CSV);
+
+        assertEquals(3, result.getImported());
+        assertNull(result.getFailedChunk());
+        assertEquals(3, matchRepository.count());
+    }
+}
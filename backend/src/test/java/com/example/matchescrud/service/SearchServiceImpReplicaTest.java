@@ -0,0 +1,81 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.PlayerDTO;
+import com.example.matchescrud.dto.response.MatchResponseDTO;
+import com.example.matchescrud.dto.response.SearchHitDTO;
+import com.example.matchescrud.exceptions.ApiException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the search endpoints against a primary and a replica holding the same teams but different
+ * players and matches, so each result shows which database it was read from.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + SearchServiceImpReplicaTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "replica.datasource.url=" + SearchServiceImpReplicaTest.REPLICA_URL,
+        "replica.datasource.username=sa",
+        "replica.datasource.password=",
+        "replica.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SearchServiceImpReplicaTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:search-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:search-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+
+    // Before the context starts, so the search index is built from these teams
+    static {
+        seed(PRIMARY_URL, "Primary");
+        seed(REPLICA_URL, "Replica");
+    }
+
+    @Autowired
+    private SearchServiceImp searchService;
+
+    @Test
+    void filtersReadFromTheReplica() throws ApiException {
+        assertEquals(List.of("Replica Striker"), searchService.filterPlayers(1L, null, null, null).stream()
+                .map(PlayerDTO::getName).collect(Collectors.toList()));
+        assertEquals(List.of(3), searchService.filterMatches(null, null, 1L, null, null, null, 10).getMatches().stream()
+                .map(MatchResponseDTO::getHomeGoals).collect(Collectors.toList()));
+    }
+
+    @Test
+    void matchHitsOfTheGlobalSearchReadFromTheReplica() {
+        List<SearchHitDTO> matches = searchService.search("Rovers", 5).getHits().stream()
+                .filter(hit -> hit.getType().equals(SearchHitDTO.MATCH))
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("00000000-0000-0000-0000-00000000000b"),
+                matches.stream().map(SearchHitDTO::getId).collect(Collectors.toList()));
+    }
+
+    // Both databases get the teams, players and matches are named after the database
+    private static void seed(String url, String database) {
+        DataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("insert into team (id, name) values (1, 'Rovers'), (2, 'United')");
+        jdbc.update("insert into player (id, name, position, jersey_number, team_id) values (1, ?, 'FW', 9, 1)",
+                database + " Striker");
+        String uuid = database.equals("Replica") ? "0b" : "0a";
+        jdbc.update("insert into matches (uuid, date, time, home_team_id, away_team_id, home_goals, away_goals, spectators) " +
+                "values (X'000000000000000000000000000000" + uuid + "', date '2024-03-02', time '15:00:00', 1, 2, ?, 0, 0)",
+                database.equals("Replica") ? 3 : 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.LeagueStandingsDTO;
+import com.example.matchescrud.dto.response.StandingsRowDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandingsFeedTest {
+
+    @Test
+    void deltaHoldsOnlyRowsWhosePositionPointsOrGoalDifferenceChanged() {
+        List<StandingsRowDTO> before = StandingsFeed.rows(List.of(
+                standing(1L, 1, 0, 6, 4),
+                standing(2L, 1, 0, 3, 1),
+                standing(3L, 0, 1, 1, 1),
+                standing(4L, 0, 1, 0, 1)));
+        // Team 3 beats team 1 and climbs to second, team 2 keeps its place, team 4 only played a 0-0 draw
+        // elsewhere: one more point but the same position
+        List<StandingsRowDTO> after = StandingsFeed.rows(List.of(
+                standing(2L, 1, 0, 3, 1),
+                standing(3L, 1, 1, 4, 1),
+                standing(4L, 0, 2, 0, 1),
+                standing(1L, 1, 0, 6, 5)));
+
+        List<StandingsRowDTO> changed = StandingsFeed.changedRows(before, after);
+        assertEquals(List.of(2L, 3L, 4L, 1L), changed.stream().map(StandingsRowDTO::getTeamId).toList());
+        assertEquals(1, changed.get(0).getPosition());
+        assertEquals(4, changed.get(3).getPosition());
+
+        // Nothing moved, nothing sent
+        assertTrue(StandingsFeed.changedRows(after, after).isEmpty());
+    }
+
+    @Test
+    void teamsThatLeftTheDivisionAreReportedAndNewOnesSent() {
+        List<StandingsRowDTO> before = StandingsFeed.rows(List.of(standing(1L, 1, 0, 2, 0), standing(2L, 0, 0, 0, 2)));
+        List<StandingsRowDTO> after = StandingsFeed.rows(List.of(standing(1L, 1, 0, 2, 0), standing(5L, 0, 0, 0, 0)));
+
+        assertEquals(List.of(2L), StandingsFeed.removedTeamIds(before, after));
+        assertEquals(List.of(5L), StandingsFeed.changedRows(before, after).stream().map(StandingsRowDTO::getTeamId).toList());
+    }
+
+    private static LeagueStandingsDTO standing(Long teamId, int wins, int draws, int goalsFor, int goalsAgainst) {
+        return new LeagueStandingsDTO(teamId, "Team " + teamId, wins + draws, wins, draws, 0,
+                goalsFor, goalsAgainst, goalsFor - goalsAgainst, wins * 3 + draws, 1L, "Division");
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.LeagueStandingsDTO;
+import com.example.matchescrud.dto.request.MatchRequestDTO;
+import com.example.matchescrud.dto.response.MatchResponseDTO;
+import com.example.matchescrud.exceptions.ApiException;
+import com.example.matchescrud.exceptions.StadiumSizeException;
+import com.example.matchescrud.model.entity.Division;
+import com.example.matchescrud.model.entity.Match;
+import com.example.matchescrud.model.entity.Stadium;
+import com.example.matchescrud.model.entity.Team;
+import com.example.matchescrud.model.entity.TeamStanding;
+import com.example.matchescrud.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives results through MatchServiceImp and checks after every write that the incrementally
+ * maintained standings equal the ones a full rebuild computes from the matches table.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:standings-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class StandingsServiceImpTest {
+
+    @Autowired
+    private MatchServiceImp matchService;
+    @Autowired
+    private StandingsServiceImp standingsService;
+    @Autowired
+    private TeamStandingRepository teamStandingRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private DivisionRepository divisionRepository;
+    @Autowired
+    private StadiumRepository stadiumRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Team> teams = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        teamStandingRepository.deleteAllInBatch();
+        matchRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        divisionRepository.deleteAllInBatch();
+        teams.clear();
+
+        Division division = divisionRepository.save(new Division(null, "Premier"));
+        for (int t = 0; t < 3; t++) {
+            Team team = new Team();
+            team.setName("Team " + t);
+            team.setUsername("team" + t);
+            team.setEmail("team" + t + "@example.com");
+            team.setDivision(division);
+            team.setStadium(stadiumRepository.save(new Stadium(null, "Stadium " + t + "-" + System.nanoTime(), 1000)));
+            teams.add(teamRepository.save(team));
+        }
+    }
+
+    @Test
+    void createUpdateAndDeleteKeepStandingsEqualToRebuild() throws ApiException {
+        MatchResponseDTO first = matchService.createMatch(request(0, 1, 2, 1, 100));
+        MatchResponseDTO second = matchService.createMatch(request(1, 2, 0, 0, 100));
+        matchService.createMatch(request(2, 0, 1, 3, 100));
+        assertMatchesRebuild();
+
+        // Home win turned into an away win, and a draw into a home win
+        matchService.updateMatch(first.getUuid(), request(0, 1, 0, 2, 100));
+        matchService.updateMatch(second.getUuid(), request(1, 2, 4, 0, 100));
+        assertMatchesRebuild();
+
+        matchService.deleteMatch(first.getUuid());
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void rejectedUpdateLeavesMatchAndStandingsUntouched() throws ApiException {
+        MatchResponseDTO created = matchService.createMatch(request(0, 1, 2, 1, 100));
+        List<String> before = standings();
+
+        // More spectators than the home stadium holds
+        assertThrows(StadiumSizeException.class,
+                () -> matchService.updateMatch(created.getUuid(), request(0, 1, 0, 5, 5000)));
+
+        assertEquals(before, standings());
+        Match match = matchRepository.findById(created.getUuid()).orElseThrow();
+        assertEquals(2, match.getHomeGoals());
+        assertEquals(1, match.getAwayGoals());
+        assertEquals(100, match.getSpectators());
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void concurrentFirstResultsOfTeamsWithoutARowAllCount() throws Exception {
+        // The seeded teams have no standings row yet, every match below is a first result for them
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<MatchResponseDTO>> writes = new ArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < 6; i++) {
+                int home = i % 3;
+                writes.add(pool.submit(() -> {
+                    start.await();
+                    return matchService.createMatch(request(home, (home + 1) % 3, 1, 0, 100));
+                }));
+            }
+            start.countDown();
+            for (Future<MatchResponseDTO> write : writes) {
+                write.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(List.of(4, 4, 4), played());
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void revertWithoutARowDoesNotGoNegative() throws ApiException {
+        MatchResponseDTO created = matchService.createMatch(request(0, 1, 2, 1, 100));
+        teamStandingRepository.deleteAllInBatch();
+
+        matchService.deleteMatch(created.getUuid());
+
+        assertEquals(List.of(0, 0, 0), played());
+        for (TeamStanding standing : teamStandingRepository.findAll()) {
+            assertEquals(0, standing.getPoints());
+            assertEquals(0, standing.getGoalsFor());
+        }
+    }
+
+    @Test
+    void rebuildRunningAlongsideResultsLosesNone() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            AtomicBoolean writing = new AtomicBoolean(true);
+            Future<?> rebuilds = pool.submit(() -> {
+                while (writing.get()) {
+                    new TransactionTemplate(transactionManager).execute(status -> standingsService.rebuildStandings());
+                }
+            });
+            for (int i = 0; i < 30; i++) {
+                matchService.createMatch(request(i % 3, (i + 1) % 3, i % 4, i % 3, 100));
+            }
+            writing.set(false);
+            rebuilds.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(List.of(20, 20, 20), played());
+        assertMatchesRebuild();
+    }
+
+    private List<Integer> played() {
+        List<Integer> played = new ArrayList<>();
+        for (LeagueStandingsDTO standing : teamStandingRepository.findAllStandings()) {
+            played.add(standing.getPlayed());
+        }
+        played.sort(null);
+        return played;
+    }
+
+    private MatchRequestDTO request(int home, int away, int homeGoals, int awayGoals, int spectators) {
+        return new MatchRequestDTO(spectators, LocalDate.of(2024, 1, 1), LocalTime.of(15, 0),
+                reference(teams.get(home)), reference(teams.get(away)), homeGoals, awayGoals, BigDecimal.TEN);
+    }
+
+    private static Team reference(Team team) {
+        Team reference = new Team();
+        reference.setId(team.getId());
+        return reference;
+    }
+
+    private void assertMatchesRebuild() {
+        List<String> incremental = standings();
+        new TransactionTemplate(transactionManager).execute(status -> standingsService.rebuildStandings());
+        assertEquals(standings(), incremental);
+    }
+
+    private List<String> standings() {
+        List<String> rows = new ArrayList<>();
+        for (LeagueStandingsDTO standing : teamStandingRepository.findAllStandings()) {
+            rows.add(standing.getTeamId() + ": " + standing.getPlayed() + " " + standing.getWins() + "-"
+                    + standing.getDraws() + "-" + standing.getLosses() + " " + standing.getGoalsFor() + ":"
+                    + standing.getGoalsAgainst() + " " + standing.getPoints());
+        }
+        return rows;
+    }
+}
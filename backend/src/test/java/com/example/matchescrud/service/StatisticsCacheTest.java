@@ -0,0 +1,66 @@
+package com.example.matchescrud.service;
+
+import com.example.matchescrud.dto.StadiumStatsDTO;
+import com.example.matchescrud.dto.TopScorerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatisticsCacheTest {
+
+    @Test
+    void renamesAndDeletesOfTeamsPlayersAndStadiumsDropWhatShowsTheirNames() {
+        StatisticsCache cache = new StatisticsCache(16, 300);
+        AtomicInteger scorerLoads = new AtomicInteger();
+        AtomicInteger stadiumLoads = new AtomicInteger();
+        Supplier<List<TopScorerDTO>> scorers = () -> {
+            scorerLoads.incrementAndGet();
+            return List.of();
+        };
+        Supplier<List<StadiumStatsDTO>> stadiums = () -> {
+            stadiumLoads.incrementAndGet();
+            return List.of();
+        };
+
+        cache.getTopScorers(10, scorers);
+        cache.getStadiumStatistics(null, null, null, stadiums);
+        cache.stadiumChanged();
+        cache.getTopScorers(10, scorers);
+        cache.getStadiumStatistics(null, null, null, stadiums);
+        assertEquals(1, scorerLoads.get());
+        assertEquals(2, stadiumLoads.get());
+
+        cache.playerChanged();
+        cache.getTopScorers(10, scorers);
+        assertEquals(2, scorerLoads.get());
+
+        cache.teamChanged(1L);
+        cache.getTopScorers(10, scorers);
+        cache.getStadiumStatistics(null, null, null, stadiums);
+        assertEquals(3, scorerLoads.get());
+        assertEquals(3, stadiumLoads.get());
+    }
+
+    @Test
+    void hitsMissesAndSizesArePublishedAsMetrics() {
+        StatisticsCache cache = new StatisticsCache(1, 300);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.getTopScorers(10, List::of);
+        cache.getTopScorers(10, List::of);
+        cache.getTopScorers(20, List::of);
+        cache.playerChanged();
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "topScorers", "result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get("cache.gets").tags("cache", "topScorers", "result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions").tags("cache", "topScorers", "cause", "size").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.invalidations").tags("cache", "topScorers").functionCounter().count());
+        assertEquals(0.0, registry.get("cache.size").tags("cache", "topScorers").gauge().value());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.matchescrud.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BkTreeTest {
+
+    @Test
+    void findsNamesWithinTheDistanceIgnoringAccents() {
+        BkTree<Long> tree = players();
+
+        assertEquals(List.of(1L), tree.search("Hojlund", 0));
+        assertEquals(List.of(1L), tree.search("rasmus hojlund", 0));
+        // One deletion, then two
+        assertEquals(List.of(1L), tree.search("Hojlnd", 1));
+        assertEquals(List.of(), tree.search("Hjlnd", 1));
+        assertEquals(List.of(1L), tree.search("Hjlnd", 2));
+        assertEquals(List.of(2L), tree.search("Haland", 1));
+        assertEquals(List.of(), tree.search("Garnacho", 2));
+    }
+
+    @Test
+    void closestMatchesComeFirst() {
+        BkTree<Long> tree = players();
+        tree.put(7L, "N'Golo Kante");
+        tree.put(8L, "Harry Kane");
+
+        // kane is one edit away, kante two
+        assertEquals(List.of(8L, 7L), tree.search("Kand", 2));
+        assertEquals(List.of(8L), tree.search("Kand", 1));
+    }
+
+    @Test
+    void replacedAndRemovedKeysAreNoLongerFound() {
+        BkTree<Long> tree = players();
+
+        tree.put(1L, "Alejandro Garnacho");
+        assertEquals(List.of(), tree.search("Hojlund", 2));
+        assertEquals(List.of(1L), tree.search("Garnacho", 0));
+
+        tree.remove(2L);
+        assertEquals(List.of(), tree.search("Haaland", 1));
+        assertEquals(List.of(3L), tree.search("Fernandes", 0));
+    }
+
+    @Test
+    void keysSurviveTheRebuildAfterManyRemovals() {
+        BkTree<Long> tree = new BkTree<>();
+        for (long i = 0; i < 200; i++) {
+            tree.put(i, "player" + i);
+        }
+        for (long i = 0; i < 150; i++) {
+            tree.remove(i);
+        }
+
+        assertEquals(List.of(), tree.search("player10", 0));
+        assertEquals(List.of(150L), tree.search("player150", 0));
+        assertEquals(List.of(175L), tree.search("playr175", 1));
+    }
+
+    @Test
+    void distanceCountsInsertionsDeletionsAndSubstitutions() {
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(0, BkTree.distance("", ""));
+        assertEquals(4, BkTree.distance("", "kane"));
+    }
+
+    private static BkTree<Long> players() {
+        BkTree<Long> tree = new BkTree<>();
+        tree.put(1L, "Rasmus Højlund");
+        tree.put(2L, "Erling Haaland");
+        tree.put(3L, "Bruno Fernandes");
+        return tree;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.matchescrud.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    void ranksNameStartsFirstThenShortestNames() {
+        PrefixIndex<Long, String> index = new PrefixIndex<>();
+        index.put(1L, "Manchester United", "Manchester United");
+        index.put(2L, "United", "United");
+        index.put(3L, "Beta United", "Beta United");
+        index.put(4L, "United Rovers", "United Rovers");
+        index.put(5L, "Alpha FC", "Alpha FC");
+
+        assertEquals(List.of("United", "United Rovers", "Beta United", "Manchester United"), index.search("Uni", 10));
+        assertEquals(List.of("Alpha FC"), index.search("  fc ", 10));
+        assertEquals(List.of(), index.search("nited", 10));
+        assertEquals(List.of(), index.search("", 10));
+    }
+
+    @Test
+    void limitCapsTheResults() {
+        PrefixIndex<Long, String> index = new PrefixIndex<>();
+        for (long i = 0; i < 60; i++) {
+            index.put(i, "Team " + (100 + i), "Team " + (100 + i));
+        }
+
+        assertEquals(List.of("Team 100", "Team 101"), index.search("team", 2));
+        assertEquals(55, index.search("team", 55).size());
+        // Short prefixes are served from the kept results, within and beyond what is kept
+        assertEquals(List.of("Team 100"), index.search("t", 1));
+        assertEquals(10, index.search("t", 10).size());
+        assertEquals(60, index.search("t", 100).size());
+        assertEquals(List.of(), index.search("team", 0));
+    }
+
+    @Test
+    void replacedAndRemovedNamesAreNoLongerSuggested() {
+        PrefixIndex<Long, String> index = new PrefixIndex<>();
+        index.put(1L, "Alpha FC", "Alpha FC");
+        index.put(2L, "Alpha Park", "Alpha Park");
+        // Kept for the short prefix, must not survive the changes below
+        assertEquals(List.of("Alpha FC", "Alpha Park"), index.search("a", 10));
+
+        index.put(1L, "Omega FC", "Omega FC");
+        assertEquals(List.of("Alpha Park"), index.search("a", 10));
+        assertEquals(List.of("Omega FC"), index.search("om", 10));
+
+        index.remove(2L);
+        assertEquals(List.of(), index.search("a", 10));
+        assertEquals(1, index.size());
+
+        // A name matching through two words is suggested once
+        index.put(3L, "Real Real", "Real Real");
+        assertEquals(List.of("Real Real"), index.search("re", 10));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.matchescrud.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    @Test
+    void findsSubstringsIgnoringCaseInKeyOrder() {
+        TrigramIndex<Long, String> index = teams();
+
+        assertEquals(List.of("Beta United", "Manchester United"), index.search("UNITED"));
+        assertEquals(List.of("Manchester United"), index.search("chest"));
+        // Found by its second text, the city
+        assertEquals(List.of("Alpha FC"), index.search("brighton"));
+        assertEquals(List.of(), index.search("rovers"));
+        // Every trigram of the query is in the name, but not next to each other
+        index.put(4L, "Abcxbcd", "abcxbcd");
+        assertEquals(List.of(), index.search("abcd"));
+    }
+
+    @Test
+    void queriesShorterThanATrigramScanTheEntries() {
+        TrigramIndex<Long, String> index = teams();
+
+        assertEquals(List.of("Alpha FC"), index.search("fc"));
+        assertEquals(List.of("Alpha FC", "Beta United", "Manchester United"), index.search("a"));
+        assertEquals(List.of(), index.search("zz"));
+        assertEquals(List.of("Alpha FC", "Beta United", "Manchester United"), index.search(""));
+    }
+
+    @Test
+    void replacedAndRemovedEntriesAreNoLongerFound() {
+        TrigramIndex<Long, String> index = teams();
+
+        index.put(1L, "Omega FC", "Omega FC");
+        assertEquals(List.of(), index.search("alpha"));
+        assertEquals(List.of(), index.search("brighton"));
+        assertEquals(List.of("Omega FC"), index.search("omega"));
+        assertEquals("Omega FC", index.get(1L));
+
+        index.remove(2L);
+        assertEquals(List.of("Manchester United"), index.search("united"));
+        assertEquals(List.of(), index.search("be"));
+        assertNull(index.get(2L));
+        assertEquals(List.of("Omega FC", "Manchester United"), index.values());
+    }
+
+    private static TrigramIndex<Long, String> teams() {
+        TrigramIndex<Long, String> index = new TrigramIndex<>();
+        index.put(3L, "Manchester United", "Manchester United", "Manchester");
+        index.put(1L, "Alpha FC", "Alpha FC", "Brighton");
+        index.put(2L, "Beta United", "Beta United", null);
+        return index;
+    }
+}
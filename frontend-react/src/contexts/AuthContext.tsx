@@ -112,6 +112,10 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
   };
 
   const logout = () => {
+    if (currentUser?.token) {
+      // Revoke the admin token server side, the local session ends either way
+      adminService.logout().catch(() => {});
+    }
     setCurrentUser(null);
     setCurrentTeam(null);
     localStorage.removeItem('currentUser');
@@ -1,6 +1,7 @@
 import axios from 'axios';
 import type {
   Event,
+  EventPage,
   Team,
   TeamRegisterRequest,
   TeamLoginRequest,
@@ -9,8 +10,13 @@ import type {
   Division,
   Player,
   PlayerHistory,
+  Suggestion,
+  GlobalSearchResult,
   MatchPlayerStats,
+  PlayerStatsLine,
+  MatchScoreEvent,
   LeagueStandings,
+  StandingsUpdate,
   TopScorer,
   TopAssists,
   TeamPerformance,
@@ -34,14 +40,14 @@ const api = axios.create({
   timeout: 30000, // 30 second timeout to prevent hanging
 });
 
-// Helper function to get admin username from localStorage
-const getAdminUsername = (): string | null => {
+// Helper function to get the admin token issued at login from localStorage
+const getAdminToken = (): string | null => {
   try {
     const storedUser = localStorage.getItem('currentUser');
     if (storedUser) {
       const user = JSON.parse(storedUser);
-      if (user.role === 'ADMIN' && user.username) {
-        return user.username;
+      if (user.role === 'ADMIN' && user.token) {
+        return user.token;
       }
     }
   } catch (e) {
@@ -53,44 +59,66 @@ const getAdminUsername = (): string | null => {
 // Events
 export const eventService = {
   getAll: () => api.get<Event[]>(`/match`),
+  getPage: (cursor?: string | null, size = 50) =>
+    api.get<EventPage>(`/match/page`, { params: { cursor: cursor ?? undefined, size } }),
   getById: (uuid: string) => api.get<Event>(`/match/${uuid}`),
+  // Live score changes instead of polling, call close() on the returned source to stop
+  subscribeToScores: (
+    onScore: (event: MatchScoreEvent) => void,
+    filters: { teamId?: number; divisionId?: number; matchUuid?: string } = {}
+  ) => {
+    const params = new URLSearchParams();
+    Object.entries(filters).forEach(([key, value]) => {
+      if (value !== undefined) params.append(key, String(value));
+    });
+    const query = params.toString();
+    const source = new EventSource(`${API_URL}/match/events${query ? `?${query}` : ''}`);
+    source.addEventListener('score', (message) => onScore(JSON.parse((message as MessageEvent).data)));
+    return source;
+  },
   create: (event: any) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.post<Event>(`/match`, event, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   update: (uuid: string, event: any) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.put<Event>(`/match/${uuid}`, event, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   delete: (uuid: string) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.delete<Event>(`/match/${uuid}`, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   getMatchStats: (matchUuid: string) => api.get<MatchPlayerStats[]>(`/match/${matchUuid}/stats`),
   getPlayerStatsForMatch: (matchUuid: string, playerId: number) =>
     api.get<MatchPlayerStats>(`/match/${matchUuid}/player/${playerId}/stats`),
   addPlayerStats: (matchUuid: string, playerId: number, stats: MatchPlayerStats) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.post<MatchPlayerStats>(`/match/${matchUuid}/player/${playerId}/stats`, stats, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   updatePlayerStats: (matchUuid: string, playerId: number, stats: MatchPlayerStats) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.put<MatchPlayerStats>(`/match/${matchUuid}/player/${playerId}/stats`, stats, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
+    });
+  },
+  saveLineupStats: (matchUuid: string, lines: PlayerStatsLine[]) => {
+    const adminToken = getAdminToken();
+    return api.put<MatchPlayerStats[]>(`/match/${matchUuid}/stats`, lines, {
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   deletePlayerStats: (matchUuid: string, playerId: number) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.delete(`/match/${matchUuid}/player/${playerId}/stats`, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
 };
@@ -98,9 +126,9 @@ export const eventService = {
 // Teams
 export const teamService = {
   getAll: () => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.get<Team[]>(`/team`, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   getById: (id: number) => api.get<Team>(`/team/${id}`),
@@ -145,21 +173,21 @@ export const playerService = {
   getAllByTeam: (teamId: number) => api.get<Player[]>(`/team/${teamId}/players`),
   getById: (id: number) => api.get<Player>(`/player/${id}`),
   create: (player: Player) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.post<Player>(`/player`, player, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   update: (id: number, player: Player) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.put<Player>(`/player/${id}`, player, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   delete: (id: number) => {
-    const adminUsername = getAdminUsername();
+    const adminToken = getAdminToken();
     return api.delete<Player>(`/player/${id}`, {
-      headers: adminUsername ? { 'X-Admin-Username': adminUsername } : {}
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
     });
   },
   getHistory: (playerId: number) => api.get<PlayerHistory[]>(`/player/${playerId}/history`),
@@ -174,28 +202,72 @@ export const statisticsService = {
   getTopAssists: (limit: number = 10) => api.get<TopAssists[]>(`/statistics/top-assists?limit=${limit}`),
   getTeamPerformance: (teamId: number) =>
     api.get<TeamPerformance[]>(`/statistics/team/${teamId}/performance`),
-  getStadiumStatistics: () => api.get<StadiumStats[]>(`/statistics/stadiums`),
+  getStadiumStatistics: (filters?: { divisionId?: number; startDate?: string; endDate?: string }) =>
+    api.get<StadiumStats[]>(`/statistics/stadiums`, { params: filters }),
+  // Live standings of a division. Reconnects on its own and resumes from the last version applied,
+  // so after the first snapshot only changed rows arrive. Call close() to stop
+  subscribeToStandings: (divisionId: number, onUpdate: (update: StandingsUpdate) => void) => {
+    const base = API_URL.startsWith('http')
+      ? API_URL.replace(/^http/, 'ws')
+      : `${window.location.protocol === 'https:' ? 'wss' : 'ws'}://${window.location.host}${API_URL}`;
+    let last: { epoch: string; version: number } | null = null;
+    let socket: WebSocket | null = null;
+    let closed = false;
+    const connect = () => {
+      const resume = last ? `?epoch=${encodeURIComponent(last.epoch)}&version=${last.version}` : '';
+      socket = new WebSocket(`${base}/ws/standings/division/${divisionId}${resume}`);
+      socket.onmessage = (message) => {
+        const update: StandingsUpdate = JSON.parse(message.data);
+        last = { epoch: update.epoch, version: update.version };
+        onUpdate(update);
+      };
+      socket.onclose = () => {
+        if (!closed) setTimeout(connect, 2000);
+      };
+    };
+    connect();
+    return {
+      close: () => {
+        closed = true;
+        socket?.close();
+      },
+    };
+  },
 };
 
 // Search
 export const searchService = {
+  searchAll: (query: string, limit?: number) =>
+    api.get<GlobalSearchResult>(`/search`, { params: { q: query, limit } }),
   searchTeams: (query?: string) => api.get<Team[]>(`/search/teams${query ? `?q=${query}` : ''}`),
   searchPlayers: (query?: string) => api.get<Player[]>(`/search/players${query ? `?q=${query}` : ''}`),
+  fuzzySearchPlayers: (query: string, maxDistance?: number) =>
+    api.get<Player[]>(`/search/players`, { params: { q: query, fuzzy: true, maxDistance } }),
   filterPlayers: (filters: { teamId?: number; position?: string; minJersey?: number; maxJersey?: number }) =>
     api.get<Player[]>(`/search/players/filter`, { params: filters }),
+  suggest: (query: string, limit?: number) =>
+    api.get<Suggestion[]>(`/search/suggest`, { params: { q: query, limit } }),
   filterMatches: (filters: {
     divisionId?: number;
     stadiumId?: number;
     teamId?: number;
     startDate?: string;
     endDate?: string;
-  }) => api.get<Event[]>(`/search/matches/filter`, { params: filters }),
+    cursor?: string;
+    size?: number;
+  }) => api.get<EventPage>(`/search/matches/filter`, { params: filters }),
 };
 
 // Admin
 export const adminService = {
   register: (userData: RegisterRequest) => api.post<User>(`/admin/register`, userData),
   login: (credentials: LoginRequest) => api.post<User>(`/admin/login`, credentials),
+  logout: () => {
+    const adminToken = getAdminToken();
+    return api.post(`/admin/logout`, null, {
+      headers: adminToken ? { Authorization: `Bearer ${adminToken}` } : {}
+    });
+  },
   getAllAdmins: () => api.get<User[]>(`/admin/admins`),
 };
 
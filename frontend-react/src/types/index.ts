@@ -4,6 +4,8 @@ export interface User {
   username: string;
   email: string;
   role?: 'USER' | 'ADMIN';
+  token?: string;
+  tokenExpiresAt?: string;
 }
 
 export interface LoginRequest {
@@ -67,6 +69,12 @@ export interface Event {
   revenue?: number;
 }
 
+// One keyset page of matches; pass nextCursor back to get the following page
+export interface EventPage {
+  matches: Event[];
+  nextCursor: string | null;
+}
+
 // City Types
 export interface City {
   id?: number;
@@ -117,6 +125,24 @@ export interface MatchPlayerStats {
   saves: number;
 }
 
+// Live score event from /match/events
+export interface MatchScoreEvent {
+  type: 'CREATED' | 'UPDATED';
+  uuid: string;
+  homeTeamId: number;
+  awayTeamId: number;
+  homeGoals: number;
+  awayGoals: number;
+}
+
+export interface PlayerStatsLine {
+  playerId: number;
+  goals: number;
+  assists: number;
+  passes: number;
+  saves: number;
+}
+
 // Statistics Types
 export interface LeagueStandings {
   teamId: number;
@@ -132,6 +158,31 @@ export interface LeagueStandings {
   points: number;
 }
 
+// Live standings channel of a division, rows carry their position
+export interface StandingsRow {
+  position: number;
+  teamId: number;
+  teamName: string;
+  played: number;
+  wins: number;
+  draws: number;
+  losses: number;
+  goalsFor: number;
+  goalsAgainst: number;
+  goalDifference: number;
+  points: number;
+}
+
+// A SNAPSHOT replaces the table, a DELTA replaces the listed rows and drops removedTeamIds
+export interface StandingsUpdate {
+  type: 'SNAPSHOT' | 'DELTA';
+  divisionId: number;
+  epoch: string;
+  version: number;
+  rows: StandingsRow[];
+  removedTeamIds: number[];
+}
+
 export interface TopScorer {
   playerId: number;
   playerName: string;
@@ -160,6 +211,7 @@ export interface StadiumStats {
   stadiumName: string;
   totalMatchesHosted: number;
   totalSpectators: number;
+  totalRevenue: number;
   averageAttendance: number;
   occupancyRate: number;
 }
@@ -196,3 +248,22 @@ export interface TeamDashboard {
   announcements: string[];
 }
 
+// Search Types
+export interface Suggestion {
+  type: 'team' | 'player' | 'stadium' | 'city';
+  id: number;
+  name: string;
+}
+
+export interface SearchHit {
+  type: 'team' | 'player' | 'match' | 'stadium';
+  id: string;
+  name: string;
+  detail: string | null;
+  score: number;
+}
+
+export interface GlobalSearchResult {
+  hits: SearchHit[];
+  timedOut: string[];
+}